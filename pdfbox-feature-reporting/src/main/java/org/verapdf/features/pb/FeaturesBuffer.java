@@ -0,0 +1,118 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb;
+
+import org.verapdf.features.FeaturesReporter;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Collects the reports made while parsing one page in parallel mode.
+ * <p>
+ * Reports are grouped by the object that was being processed when they were
+ * made. Every object claimed by the page opens a group of its own, and a
+ * reference to the object is recorded in the enclosing group whether the page
+ * has claimed it or not. Replaying the pages in page order and expanding each
+ * group where it is first referenced gives the same order of reports as a
+ * sequential pass, no matter which page claimed an object first.
+ */
+final class FeaturesBuffer {
+	private final Group page;
+	private final Map<String, Group> groups = new HashMap<>();
+	private final Deque<Group> processed = new ArrayDeque<>();
+
+	FeaturesBuffer(int pageIndex) {
+		this.page = new Group("p" + pageIndex);
+		this.processed.push(this.page);
+	}
+
+	void report(Consumer<FeaturesReporter> action) {
+		this.processed.peek().entries.add(action);
+	}
+
+	void reference(String id) {
+		this.processed.peek().entries.add(id);
+	}
+
+	void begin(String id) {
+		reference(id);
+		Group group = new Group(id);
+		this.groups.put(id, group);
+		this.processed.push(group);
+	}
+
+	void end() {
+		this.processed.pop();
+	}
+
+	/**
+	 * @return key for the next direct object of the object being processed,
+	 *         unique within the document and independent of thread timing
+	 */
+	String nextDirectKey() {
+		Group group = this.processed.peek();
+		return group.id + '_' + group.directObjects++;
+	}
+
+	/**
+	 * Applies the buffered reports to the reporter
+	 *
+	 * @param pages buffers of all pages in page order
+	 * @param reporter reporter to apply the reports to
+	 */
+	static void replay(List<FeaturesBuffer> pages, FeaturesReporter reporter) {
+		Map<String, Group> groups = new HashMap<>();
+		for (FeaturesBuffer buffer : pages) {
+			groups.putAll(buffer.groups);
+		}
+		Set<String> replayed = new HashSet<>();
+		for (FeaturesBuffer buffer : pages) {
+			replay(buffer.page, groups, replayed, reporter);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void replay(Group group, Map<String, Group> groups, Set<String> replayed,
+			FeaturesReporter reporter) {
+		for (Object entry : group.entries) {
+			if (entry instanceof String) {
+				Group referenced = groups.get(entry);
+				if (referenced != null && replayed.add((String) entry)) {
+					replay(referenced, groups, replayed, reporter);
+				}
+			} else {
+				((Consumer<FeaturesReporter>) entry).accept(reporter);
+			}
+		}
+	}
+
+	private static final class Group {
+		private final String id;
+		// reports and references to other objects, in order of appearance
+		private final List<Object> entries = new ArrayList<>();
+		private int directObjects = 0;
+
+		private Group(String id) {
+			this.id = id;
+		}
+	}
+}
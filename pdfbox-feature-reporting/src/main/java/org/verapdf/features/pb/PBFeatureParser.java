@@ -58,14 +58,29 @@ import org.apache.pdfbox.pdmodel.interactive.form.PDNonTerminalField;
 import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
 import org.verapdf.features.*;
 import org.verapdf.features.objects.ActionFeaturesObjectAdapter;
+import org.verapdf.features.objects.FeaturesObject;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.features.tools.ErrorsHelper;
 import org.verapdf.features.tools.FeatureTreeNode;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 /**
- * Parses PDFBox PDDocument to generate features collection
+ * Parses PDFBox PDDocument to generate features collection.
+ * <p>
+ * Every call of {@code getFeaturesCollection} uses its own parser and
+ * reporter, so different documents may be processed concurrently. By default
+ * one document is processed by a single thread. The overloads taking an
+ * executor parse the pages of the document as tasks of that executor
+ * instead, so one pool supplied by the caller bounds the number of threads
+ * used for all documents: objects are claimed for reporting in a concurrent registry, so
+ * each shared object is parsed by one page only, and the reports of every
+ * page are buffered and merged in page order. The merged collection is the
+ * same for any number of threads and differs from the sequential one only in
+ * the IDs of direct objects, which are numbered per enclosing object.
  *
  * @author Maksim Bezrukov
  */
@@ -78,14 +93,37 @@ public final class PBFeatureParser {
 	private static final String DEVICERGB_ID = "devrgb";
 	private static final String DEVICECMYK_ID = "devcmyk";
 
-	private FeaturesReporter reporter;
-	private FeatureExtractorConfig config;
-	private Set<String> processedIDs;
-
-	private PBFeatureParser(FeaturesReporter reporter, FeatureExtractorConfig config) {
+	private final FeaturesReporter reporter;
+	private final FeatureExtractorConfig config;
+	private final ICCProfileCache iccProfileCache;
+	// IDs of objects which are already claimed for reporting
+	private final Set<String> processedIDs;
+	// executor of the page tasks, null if pages are parsed sequentially
+	private final ExecutorService pageExecutor;
+	// reports of the page parsed by this parser in parallel mode, null otherwise
+	private final FeaturesBuffer buffer;
+	// guards color space creation, which may read ICC streams shared between pages
+	private final Object colorSpaceLock;
+
+	private PBFeatureParser(FeaturesReporter reporter, FeatureExtractorConfig config, ExecutorService pageExecutor,
+			ICCProfileCache iccProfileCache) {
 		this.reporter = reporter;
 		this.config = config;
-		this.processedIDs = new HashSet<>();
+		this.iccProfileCache = iccProfileCache;
+		this.pageExecutor = pageExecutor;
+		this.processedIDs = pageExecutor != null ? ConcurrentHashMap.<String>newKeySet() : new HashSet<String>();
+		this.buffer = null;
+		this.colorSpaceLock = new Object();
+	}
+
+	private PBFeatureParser(PBFeatureParser parent, FeaturesBuffer buffer) {
+		this.reporter = parent.reporter;
+		this.config = parent.config;
+		this.iccProfileCache = parent.iccProfileCache;
+		this.pageExecutor = null;
+		this.processedIDs = parent.processedIDs;
+		this.buffer = buffer;
+		this.colorSpaceLock = parent.colorSpaceLock;
 	}
 
 	/**
@@ -98,8 +136,26 @@ public final class PBFeatureParser {
 	 */
 	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document, final FeatureExtractorConfig config) {
 
+		return getFeaturesCollection(document, config, null);
+	}
+
+	/**
+	 * Parses the document and returns Feature collection by using given
+	 * Features Reporter. Pages are parsed in parallel by the given executor.
+	 *
+	 * @param document
+	 *            the document for parsing
+	 * @param pageExecutor
+	 *            executor of the page parsing tasks, shared between documents
+	 *            and owned by the caller, {@code null} to parse the pages
+	 *            sequentially on the calling thread
+	 * @return FeaturesCollection class with information about all featurereport
+	 */
+	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
+			final FeatureExtractorConfig config, final ExecutorService pageExecutor) {
+
 		FeaturesReporter reporter = new FeaturesReporter(config);
-		return getFeatures(document, reporter, config);
+		return getFeatures(document, reporter, config, pageExecutor, new ICCProfileCache());
 	}
 
 	/**
@@ -113,17 +169,57 @@ public final class PBFeatureParser {
 	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
 			final List<AbstractFeaturesExtractor> extractors, final FeatureExtractorConfig config) {
 
+		return getFeaturesCollection(document, extractors, config, null);
+	}
+
+	/**
+	 * Parses the document and returns Feature collection by using given
+	 * Features Reporter. Pages are parsed in parallel by the given executor.
+	 *
+	 * @param document
+	 *            the document for parsing
+	 * @param pageExecutor
+	 *            executor of the page parsing tasks, shared between documents
+	 *            and owned by the caller, {@code null} to parse the pages
+	 *            sequentially on the calling thread
+	 * @return FeaturesCollection class with information about all featurereport
+	 */
+	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
+			final List<AbstractFeaturesExtractor> extractors, final FeatureExtractorConfig config,
+			final ExecutorService pageExecutor) {
+
+		return getFeaturesCollection(document, extractors, config, pageExecutor, new ICCProfileCache());
+	}
+
+	/**
+	 * Parses the document and returns Feature collection by using given
+	 * Features Reporter. ICC profiles are read through the given cache, so
+	 * profiles already read during validation of the document are reused.
+	 *
+	 * @param document
+	 *            the document for parsing
+	 * @param pageExecutor
+	 *            executor of the page parsing tasks, {@code null} to parse
+	 *            the pages sequentially on the calling thread
+	 * @param iccProfileCache
+	 *            cache of read ICC profiles of the document
+	 * @return FeaturesCollection class with information about all featurereport
+	 */
+	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
+			final List<AbstractFeaturesExtractor> extractors, final FeatureExtractorConfig config,
+			final ExecutorService pageExecutor, final ICCProfileCache iccProfileCache) {
+
 		FeaturesReporter reporter = new FeaturesReporter(config, extractors);
-		return getFeatures(document, reporter, config);
+		return getFeatures(document, reporter, config, pageExecutor, iccProfileCache);
 	}
 
 	private static FeatureExtractionResult getFeatures(PDDocument document, FeaturesReporter reporter,
-			FeatureExtractorConfig config) {
+			FeatureExtractorConfig config, ExecutorService pageExecutor, ICCProfileCache iccProfileCache) {
 		if (config == null) {
 			throw new IllegalArgumentException("Features config can not be null");
 		}
 		if (document != null) {
-			PBFeatureParser parser = new PBFeatureParser(reporter, config);
+			PBFeatureParser parser = new PBFeatureParser(reporter, config, pageExecutor, iccProfileCache);
 			parser.parseDocumentFeatures(document);
 		}
 
@@ -131,22 +227,22 @@ public final class PBFeatureParser {
 	}
 
 	private void parseDocumentFeatures(PDDocument document) {
-		reporter.report(PBFeaturesObjectCreator.createInfoDictFeaturesObject(document.getDocumentInformation()));
-		reporter.report(PBFeaturesObjectCreator.createDocSecurityFeaturesObject(document.getEncryption()));
+		report(PBFeaturesObjectCreator.createInfoDictFeaturesObject(document.getDocumentInformation()));
+		report(PBFeaturesObjectCreator.createDocSecurityFeaturesObject(document.getEncryption()));
 
 		PDDocumentCatalog catalog = document.getDocumentCatalog();
 		if (catalog != null) {
-			getCatalogFeatures(catalog);
+			getCatalogFeatures(document, catalog);
 		}
 
-		reporter.report(PBFeaturesObjectCreator.createLowLvlInfoFeaturesObject(document.getDocument()));
+		report(PBFeaturesObjectCreator.createLowLvlInfoFeaturesObject(document.getDocument()));
 
 	}
 
-	private void getCatalogFeatures(PDDocumentCatalog catalog) {
-		reporter.report(PBFeaturesObjectCreator.createMetadataFeaturesObject(catalog.getMetadata()));
+	private void getCatalogFeatures(PDDocument document, PDDocumentCatalog catalog) {
+		report(PBFeaturesObjectCreator.createMetadataFeaturesObject(catalog.getMetadata()));
 		PDDocumentOutline documentOutline = catalog.getDocumentOutline();
-		reporter.report(PBFeaturesObjectCreator.createOutlinesFeaturesObject(documentOutline));
+		report(PBFeaturesObjectCreator.createOutlinesFeaturesObject(documentOutline));
 
 		PDDocumentNameDictionary names = catalog.getNames();
 
@@ -198,7 +294,7 @@ public final class PBFeatureParser {
 				if (!config.isFeatureEnabled(FeatureObjectType.ICCPROFILE)) {
 					iccProfileID = null;
 				}
-				reporter.report(PBFeaturesObjectCreator.createOutputIntentFeaturesObject(outInt, iccProfileID));
+				report(PBFeaturesObjectCreator.createOutputIntentFeaturesObject(outInt, iccProfileID));
 			}
 		}
 
@@ -227,7 +323,7 @@ public final class PBFeatureParser {
 
 	private void reportAction(PDAction action, ActionFeaturesObjectAdapter.Location location) {
 		if (action != null) {
-			reporter.report(PBFeaturesObjectCreator.createActionFeaturesObject(action, location));
+			report(PBFeaturesObjectCreator.createActionFeaturesObject(action, location));
 			List<PDAction> actionNext = action.getNext();
 			if (actionNext != null) {
 				for (PDAction next : actionNext) {
@@ -252,7 +348,7 @@ public final class PBFeatureParser {
 			return;
 		}
 		if (config.isFeatureEnabled(FeatureObjectType.INTERACTIVE_FORM_FIELDS)) {
-			reporter.report(PBFeaturesObjectCreator.createInteractiveFormFieldFeaturesObject(field));
+			report(PBFeaturesObjectCreator.createInteractiveFormFieldFeaturesObject(field));
 		}
 		if (config.isFeatureEnabled(FeatureObjectType.ACTION)) {
 			getFormFieldActions(field);
@@ -283,56 +379,110 @@ public final class PBFeatureParser {
 		if (config.isFeatureEnabled(FeatureObjectType.SIGNATURE) && field instanceof PDSignatureField) {
 			PDSignature signature = ((PDSignatureField) field).getSignature();
 			if (signature != null) {
-				reporter.report(PBFeaturesObjectCreator.createSignatureFeaturesObject(signature));
+				report(PBFeaturesObjectCreator.createSignatureFeaturesObject(signature));
 			}
 		}
 	}
 
 	private void getPageTreeFeatures(PDPageTree pageTree, PDPageLabels pageLabels) {
 		String[] labels = pageLabels == null ? null : pageLabels.getLabelsByPageIndices();
+		if (this.pageExecutor != null) {
+			getPageTreeFeaturesInParallel(pageTree, labels);
+			return;
+		}
+		int pageIndex = 0;
 		for (PDPage page : pageTree) {
-			reportPageActions(page);
-			Set<String> annotsId = addAnnotsDependencies(page);
-			annotsId = config.isFeatureEnabled(FeatureObjectType.ANNOTATION) ? annotsId : null;
-
-			String thumbID = null;
-			if (page.getCOSObject().getDictionaryObject(COSName.getPDFName("Thumb")) != null) {
-				COSBase baseThumb = page.getCOSObject().getItem(COSName.getPDFName("Thumb"));
-				thumbID = getId(baseThumb, FeatureObjectType.IMAGE_XOBJECT);
-				if (checkIDBeforeProcess(thumbID)) {
-					COSBase base = getBase(baseThumb);
-					if (base instanceof COSStream) {
-						PDImageXObjectProxy img = new PDImageXObjectProxy(new PDStream((COSStream) base), null);
-						parseImageXObject(img, thumbID);
-					} else {
-						xobjectCreationProblem(thumbID, "Thumb is not a stream");
-					}
+			String label = labels != null && pageIndex < labels.length ? labels[pageIndex] : null;
+			getPageFeatures(page, label, pageIndex);
+			pageIndex++;
+		}
+	}
+
+	private void getPageTreeFeaturesInParallel(PDPageTree pageTree, final String[] labels) {
+		// the document resource cache is not thread safe, pages are wrapped
+		// again without it, so their resources are not cached at all
+		List<PDPage> pages = new ArrayList<>();
+		for (PDPage page : pageTree) {
+			pages.add(new PDPage(page.getCOSObject()));
+		}
+
+		List<Callable<FeaturesBuffer>> tasks = new ArrayList<>(pages.size());
+		for (int i = 0; i < pages.size(); ++i) {
+			final PDPage page = pages.get(i);
+			final int pageIndex = i;
+			tasks.add(new Callable<FeaturesBuffer>() {
+				@Override
+				public FeaturesBuffer call() {
+					FeaturesBuffer pageBuffer = new FeaturesBuffer(pageIndex);
+					String label = labels != null && pageIndex < labels.length ? labels[pageIndex] : null;
+					new PBFeatureParser(PBFeatureParser.this, pageBuffer).getPageFeatures(page, label, pageIndex);
+					return pageBuffer;
 				}
-			}
-			thumbID = config.isAnyFeatureEnabled(XOBJECTS) ? thumbID : null;
+			});
+		}
 
-			PDResources resources = page.getResources();
-			Set<String> extGStateChild = config.isFeatureEnabled(FeatureObjectType.EXT_G_STATE)
-					? parseExGStateFromResource(resources) : null;
-			Set<String> colorSpaceChild = config.isFeatureEnabled(FeatureObjectType.COLORSPACE)
-					? parseColorSpaceFromResources(resources) : null;
-			Set<String> patternChild = config.isFeatureEnabled(FeatureObjectType.PATTERN)
-					? parsePatternFromResource(resources) : null;
-			Set<String> shadingChild = config.isFeatureEnabled(FeatureObjectType.SHADING)
-					? parseShadingFromResource(resources) : null;
-			Set<String> xobjectChild = config.isAnyFeatureEnabled(XOBJECTS) ? parseXObjectFromResources(resources)
-					: null;
-			Set<String> fontChild = config.isFeatureEnabled(FeatureObjectType.FONT) ? parseFontFromResources(resources)
-					: null;
-			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
-					? parsePropertiesFromResources(resources) : null;
+		try {
+			List<FeaturesBuffer> buffers = new ArrayList<>(pages.size());
+			for (Future<FeaturesBuffer> result : this.pageExecutor.invokeAll(tasks)) {
+				buffers.add(result.get());
+			}
+			FeaturesBuffer.replay(buffers, this.reporter);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while parsing pages", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException("Page parsing failed", cause);
+		}
+	}
 
-			int pageIndex = pageTree.indexOf(page);
-			String label = labels != null && pageIndex < labels.length ? labels[pageIndex] : null;
-			reporter.report(PBFeaturesObjectCreator.createPageFeaturesObject(page, label, thumbID, annotsId, extGStateChild,
-					colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild,
-					pageIndex));
+	private void getPageFeatures(PDPage page, String label, int pageIndex) {
+		reportPageActions(page);
+		Set<String> annotsId = addAnnotsDependencies(page);
+		annotsId = config.isFeatureEnabled(FeatureObjectType.ANNOTATION) ? annotsId : null;
+
+		String thumbID = null;
+		if (page.getCOSObject().getDictionaryObject(COSName.getPDFName("Thumb")) != null) {
+			COSBase baseThumb = page.getCOSObject().getItem(COSName.getPDFName("Thumb"));
+			thumbID = getId(baseThumb, FeatureObjectType.IMAGE_XOBJECT);
+			if (checkIDBeforeProcess(thumbID)) {
+				COSBase base = getBase(baseThumb);
+				if (base instanceof COSStream) {
+					PDImageXObjectProxy img = new PDImageXObjectProxy(new PDStream((COSStream) base), null);
+					parseImageXObject(img, thumbID);
+				} else {
+					xobjectCreationProblem(thumbID, "Thumb is not a stream");
+				}
+				endProcess();
+			}
 		}
+		thumbID = config.isAnyFeatureEnabled(XOBJECTS) ? thumbID : null;
+
+		PDResources resources = page.getResources();
+		Set<String> extGStateChild = config.isFeatureEnabled(FeatureObjectType.EXT_G_STATE)
+				? parseExGStateFromResource(resources) : null;
+		Set<String> colorSpaceChild = config.isFeatureEnabled(FeatureObjectType.COLORSPACE)
+				? parseColorSpaceFromResources(resources) : null;
+		Set<String> patternChild = config.isFeatureEnabled(FeatureObjectType.PATTERN)
+				? parsePatternFromResource(resources) : null;
+		Set<String> shadingChild = config.isFeatureEnabled(FeatureObjectType.SHADING)
+				? parseShadingFromResource(resources) : null;
+		Set<String> xobjectChild = config.isAnyFeatureEnabled(XOBJECTS) ? parseXObjectFromResources(resources)
+				: null;
+		Set<String> fontChild = config.isFeatureEnabled(FeatureObjectType.FONT) ? parseFontFromResources(resources)
+				: null;
+		Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
+				? parsePropertiesFromResources(resources) : null;
+
+		report(PBFeaturesObjectCreator.createPageFeaturesObject(page, label, thumbID, annotsId, extGStateChild,
+				colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild,
+				pageIndex));
 	}
 
 	private void reportPageActions(PDPage page) {
@@ -390,12 +540,13 @@ public final class PBFeatureParser {
 						Set<String> formsIDs = getAnnotationResourcesDependencies(annotation);
 						popupID = config.isFeatureEnabled(FeatureObjectType.ANNOTATION) ? popupID : null;
 						formsIDs = config.isAnyFeatureEnabled(XOBJECTS) ? formsIDs : null;
-						reporter.report(
+						report(
 								PBFeaturesObjectCreator.createAnnotFeaturesObject(annotation, id, popupID, formsIDs));
 					} catch (IOException e) {
 						LOGGER.debug("Unknown annotation type detected.", e);
 						generateUnknownAnnotation(id);
 					}
+					endProcess();
 				}
 			}
 		}
@@ -430,11 +581,12 @@ public final class PBFeatureParser {
 			try {
 				PDAnnotation annotation = PDAnnotation.createAnnotation(base);
 				reportAnnotationActions(annotation);
-				reporter.report(PBFeaturesObjectCreator.createAnnotFeaturesObject(annotation, id, null, null));
+				report(PBFeaturesObjectCreator.createAnnotFeaturesObject(annotation, id, null, null));
 			} catch (IOException e) {
 				LOGGER.debug("Unknown annotation type detected.", e);
 				generateUnknownAnnotation(id);
 			}
+			endProcess();
 		}
 		return id;
 	}
@@ -479,16 +631,23 @@ public final class PBFeatureParser {
 		String id = getId(entryLink, FeatureObjectType.FORM_XOBJECT);
 		if (checkIDBeforeProcess(id)) {
 			parseFormXObject(stream, id);
+			endProcess();
 		}
 		return id;
 	}
 
-	private void generateUnknownAnnotation(String id) {
+	private void generateUnknownAnnotation(final String id) {
 		if (config.isFeatureEnabled(FeatureObjectType.ANNOTATION)) {
-			FeatureTreeNode annot = FeatureTreeNode.createRootNode(FeatureObjectType.ANNOTATION.getNodeName());
-			annot.setAttribute(ID, id);
-			ErrorsHelper.addErrorIntoCollection(reporter.getCollection(), annot, "Unknown annotation type");
-			reporter.getCollection().addNewFeatureTree(FeatureObjectType.ANNOTATION, annot);
+			report(new Consumer<FeaturesReporter>() {
+				@Override
+				public void accept(FeaturesReporter featuresReporter) {
+					FeatureTreeNode annot = FeatureTreeNode.createRootNode(FeatureObjectType.ANNOTATION.getNodeName());
+					annot.setAttribute(ID, id);
+					ErrorsHelper.addErrorIntoCollection(featuresReporter.getCollection(), annot,
+							"Unknown annotation type");
+					featuresReporter.getCollection().addNewFeatureTree(FeatureObjectType.ANNOTATION, annot);
+				}
+			});
 		}
 	}
 
@@ -497,7 +656,7 @@ public final class PBFeatureParser {
 		try {
 			if (efTree.getNames() != null) {
 				for (PDComplexFileSpecification file : efTree.getNames().values()) {
-					reporter.report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++index));
+					report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++index));
 				}
 			}
 		} catch (IOException e) {
@@ -542,7 +701,7 @@ public final class PBFeatureParser {
 			if (config.isFeatureEnabled(FeatureObjectType.EMBEDDED_FILE) && node.getNames() != null) {
 				for (PDComplexFileSpecification file : node.getNames().values()) {
 					if (file != null) {
-						reporter.report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++res));
+						report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++res));
 					}
 				}
 			}
@@ -567,8 +726,9 @@ public final class PBFeatureParser {
 			COSDictionary outIntDict = (COSDictionary) outIntBase;
 			String iccProfileID = getId(outIntDict.getItem(COSName.DEST_OUTPUT_PROFILE), FeatureObjectType.ICCPROFILE);
 			if (checkIDBeforeProcess(iccProfileID)) {
-				reporter.report(PBFeaturesObjectCreator.createICCProfileFeaturesObject(outInt.getDestOutputIntent(),
-						iccProfileID));
+				report(PBFeaturesObjectCreator.createICCProfileFeaturesObject(outInt.getDestOutputIntent(),
+						iccProfileID, iccProfileCache));
+				endProcess();
 			}
 			return iccProfileID;
 		}
@@ -601,22 +761,27 @@ public final class PBFeatureParser {
 
 	private void creationProblem(final String nodeID, final String errorMessage, final FeatureObjectType type, final boolean isTypeError) {
 		if (config.isFeatureEnabled(type)) {
-			if (!isTypeError) {
-				FeatureTreeNode node = createNodeWithType(type);
-				if (nodeID != null) {
-					node.setAttribute(ID, nodeID);
+			report(new Consumer<FeaturesReporter>() {
+				@Override
+				public void accept(FeaturesReporter featuresReporter) {
+					FeatureExtractionResult collection = featuresReporter.getCollection();
+					if (!isTypeError) {
+						FeatureTreeNode node = createNodeWithType(type);
+						if (nodeID != null) {
+							node.setAttribute(ID, nodeID);
+						}
+						collection.addNewFeatureTree(type, node);
+						ErrorsHelper.addErrorIntoCollection(collection, node, errorMessage);
+					} else {
+						String id = ErrorsHelper.addErrorIntoCollection(collection, null, errorMessage);
+						collection.addNewError(type, id);
+					}
 				}
-				reporter.getCollection().addNewFeatureTree(type, node);
-				ErrorsHelper.addErrorIntoCollection(reporter.getCollection(), node, errorMessage);
-			} else {
-				String id = ErrorsHelper.addErrorIntoCollection(reporter.getCollection(), null, errorMessage);
-				reporter.getCollection().addNewError(type, id);
-
-			}
+			});
 		}
 	}
 
-	private FeatureTreeNode createNodeWithType(FeatureObjectType type) {
+	private static FeatureTreeNode createNodeWithType(FeatureObjectType type) {
 		if (type == FeatureObjectType.FORM_XOBJECT) {
 			FeatureTreeNode res = FeatureTreeNode.createRootNode("xobject");
 			res.setAttribute("type", "form");
@@ -637,12 +802,16 @@ public final class PBFeatureParser {
 			COSBase base = dict.getItem(name);
 			String id = getId(base, FeatureObjectType.COLORSPACE);
 			try {
-				PDColorSpace colorSpace = resources.getColorSpace(name);
+				PDColorSpace colorSpace;
+				synchronized (colorSpaceLock) {
+					colorSpace = resources.getColorSpace(name);
+				}
 				id = checkColorSpaceID(id, colorSpace);
 				colorSpaceIDs.add(id);
 
 				if (checkIDBeforeProcess(id)) {
 					parseColorSpace(colorSpace, id);
+					endProcess();
 				}
 			} catch (IOException e) {
 				LOGGER.info(e);
@@ -673,12 +842,13 @@ public final class PBFeatureParser {
 					} else if (xobj instanceof PDFormXObject) {
 						parseFormXObject((PDFormXObject) xobj, id);
 					} else if (xobj instanceof PDPostScriptXObject) {
-						reporter.report(PBFeaturesObjectCreator.createPostScriptXObjectFeaturesObject(id));
+						report(PBFeaturesObjectCreator.createPostScriptXObjectFeaturesObject(id));
 					}
 				} catch (IOException e) {
 					LOGGER.info(e);
 					xobjectCreationProblem(id, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 		return xobjectsIDs;
@@ -698,8 +868,9 @@ public final class PBFeatureParser {
 
 			if (checkIDBeforeProcess(id)) {
 				PDPropertyList property = resources.getProperties(name);
-				reporter.report(
+				report(
 						PBFeaturesObjectCreator.createPropertiesDictFeaturesObject(property.getCOSObject(), id));
+				endProcess();
 			}
 		}
 		return propertiesIDs;
@@ -725,7 +896,7 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					fontCreationProblem(id, e.getMessage());
 				}
-
+				endProcess();
 			}
 		}
 		return fontIDs;
@@ -746,6 +917,7 @@ public final class PBFeatureParser {
 			if (checkIDBeforeProcess(id)) {
 				PDExtendedGraphicsState exGState = resources.getExtGState(name);
 				parseExGState(exGState, id);
+				endProcess();
 			}
 		}
 		return gStatesIDs;
@@ -772,6 +944,7 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					patternCreationProblem(id, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 		return patternIDs;
@@ -797,6 +970,7 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					shadingCreationProblem(id, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 		return shadingIDs;
@@ -809,10 +983,14 @@ public final class PBFeatureParser {
 		}
 		String idColorSpace = getId(baseColorSpace, FeatureObjectType.COLORSPACE);
 		try {
-			PDColorSpace colorSpace = xobj.getColorSpace();
+			PDColorSpace colorSpace;
+			synchronized (colorSpaceLock) {
+				colorSpace = xobj.getColorSpace();
+			}
 			idColorSpace = checkColorSpaceID(idColorSpace, colorSpace);
 			if (checkIDBeforeProcess(idColorSpace)) {
 				parseColorSpace(colorSpace, idColorSpace);
+				endProcess();
 			}
 		} catch (IOException e) {
 			LOGGER.info(e);
@@ -832,6 +1010,7 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					xobjectCreationProblem(idMask, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 
@@ -848,6 +1027,7 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					xobjectCreationProblem(idSMask, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 
@@ -868,6 +1048,7 @@ public final class PBFeatureParser {
 						if (checkIDBeforeProcess(idImage)) {
 							PDImageXObjectProxy im = new PDImageXObjectProxy(new PDStream((COSStream) baseImage), null);
 							parseImageXObject(im, idImage);
+							endProcess();
 						}
 					}
 				}
@@ -881,7 +1062,7 @@ public final class PBFeatureParser {
 			alternatesIDs = null;
 		}
 
-		reporter.report(PBFeaturesObjectCreator.createImageXObjectFeaturesObject(xobj, id, idColorSpace, idMask,
+		report(PBFeaturesObjectCreator.createImageXObjectFeaturesObject(xobj, id, idColorSpace, idMask,
 				idSMask, alternatesIDs));
 	}
 
@@ -893,10 +1074,14 @@ public final class PBFeatureParser {
 			COSBase baseColorSpace = group.getCOSObject().getItem(COSName.CS);
 			idColorSpace = getId(baseColorSpace, FeatureObjectType.COLORSPACE);
 			try {
-				PDColorSpace colorSpace = group.getColorSpace();
+				PDColorSpace colorSpace;
+				synchronized (colorSpaceLock) {
+					colorSpace = group.getColorSpace();
+				}
 				idColorSpace = checkColorSpaceID(idColorSpace, colorSpace);
 				if (checkIDBeforeProcess(idColorSpace)) {
 					parseColorSpace(colorSpace, idColorSpace);
+					endProcess();
 				}
 			} catch (IOException e) {
 				LOGGER.info(e);
@@ -922,7 +1107,7 @@ public final class PBFeatureParser {
 		Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 				? parsePropertiesFromResources(resources) : null;
 
-		reporter.report(PBFeaturesObjectCreator.createFormXObjectFeaturesObject(xobj, id, idColorSpace, extGStateChild,
+		report(PBFeaturesObjectCreator.createFormXObjectFeaturesObject(xobj, id, idColorSpace, extGStateChild,
 				colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild));
 
 	}
@@ -939,11 +1124,12 @@ public final class PBFeatureParser {
 					LOGGER.info(e);
 					fontCreationProblem(childFontID, e.getMessage());
 				}
+				endProcess();
 			}
 		}
 
 		childFontID = config.isFeatureEnabled(FeatureObjectType.FONT) ? childFontID : null;
-		reporter.report(PBFeaturesObjectCreator.createExtGStateFeaturesObject(exGState, id, childFontID));
+		report(PBFeaturesObjectCreator.createExtGStateFeaturesObject(exGState, id, childFontID));
 	}
 
 	private void parsePattern(PDAbstractPattern pattern, String id) throws IOException {
@@ -965,27 +1151,33 @@ public final class PBFeatureParser {
 			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 					? parsePropertiesFromResources(resources) : null;
 
-			reporter.report(PBFeaturesObjectCreator.createTilingPatternFeaturesObject(tilingPattern, id, extGStateChild,
+			report(PBFeaturesObjectCreator.createTilingPatternFeaturesObject(tilingPattern, id, extGStateChild,
 					colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild));
 		} else {
 			PDShadingPattern shadingPattern = (PDShadingPattern) pattern;
 			COSBase baseShading = shadingPattern.getCOSObject().getItem(COSName.SHADING);
 			String shadingID = getId(baseShading, FeatureObjectType.SHADING);
 
-			if (checkIDBeforeProcess(shadingID) && shadingPattern.getShading() != null) {
-				parseShading(shadingPattern.getShading(), shadingID);
+			if (checkIDBeforeProcess(shadingID)) {
+				if (shadingPattern.getShading() != null) {
+					parseShading(shadingPattern.getShading(), shadingID);
+				}
+				endProcess();
 			}
 
 			COSBase baseExGState = shadingPattern.getCOSObject().getItem(COSName.EXT_G_STATE);
 			String exGStateID = getId(baseExGState, FeatureObjectType.EXT_G_STATE);
 
-			if (checkIDBeforeProcess(exGStateID) && shadingPattern.getExtendedGraphicsState() != null) {
-				parseExGState(shadingPattern.getExtendedGraphicsState(), exGStateID);
+			if (checkIDBeforeProcess(exGStateID)) {
+				if (shadingPattern.getExtendedGraphicsState() != null) {
+					parseExGState(shadingPattern.getExtendedGraphicsState(), exGStateID);
+				}
+				endProcess();
 			}
 
 			shadingID = config.isFeatureEnabled(FeatureObjectType.SHADING) ? shadingID : null;
 			exGStateID = config.isFeatureEnabled(FeatureObjectType.EXT_G_STATE) ? exGStateID : null;
-			reporter.report(PBFeaturesObjectCreator.createShadingPatternFeaturesObject(shadingPattern, id, shadingID,
+			report(PBFeaturesObjectCreator.createShadingPatternFeaturesObject(shadingPattern, id, shadingID,
 					exGStateID));
 		}
 	}
@@ -997,18 +1189,22 @@ public final class PBFeatureParser {
 		}
 		String colorspaceID = getId(base, FeatureObjectType.COLORSPACE);
 		try {
-			PDColorSpace colorSpace = shading.getColorSpace();
+			PDColorSpace colorSpace;
+			synchronized (colorSpaceLock) {
+				colorSpace = shading.getColorSpace();
+			}
 
 			colorspaceID = checkColorSpaceID(colorspaceID, colorSpace);
 			if (checkIDBeforeProcess(colorspaceID)) {
 				parseColorSpace(colorSpace, colorspaceID);
+				endProcess();
 			}
 		} catch (IOException e) {
 			LOGGER.info(e);
 			colorSpaceCreationProblem(colorspaceID, e.getMessage());
 		}
 		colorspaceID = config.isFeatureEnabled(FeatureObjectType.COLORSPACE) ? colorspaceID : null;
-		reporter.report(PBFeaturesObjectCreator.createShadingFeaturesObject(shading, id, colorspaceID));
+		report(PBFeaturesObjectCreator.createShadingFeaturesObject(shading, id, colorspaceID));
 	}
 
 	private void parseFont(PDFontLike font, String id) {
@@ -1029,7 +1225,7 @@ public final class PBFeatureParser {
 			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 					? parsePropertiesFromResources(resources) : null;
 
-			reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, extGStateChild, colorSpaceChild,
+			report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, extGStateChild, colorSpaceChild,
 					patternChild, shadingChild, xobjectChild, fontChild, propertiesChild));
 		} else if (font instanceof PDType0Font) {
 			PDType0Font type0 = (PDType0Font) font;
@@ -1040,17 +1236,18 @@ public final class PBFeatureParser {
 				String descendantID = getId(descendantFontDictionaryBase, FeatureObjectType.FONT);
 				if (checkIDBeforeProcess(descendantID)) {
 					parseFont(type0.getDescendantFont(), descendantID);
+					endProcess();
 				}
 				Set<String> descendant = null;
 				if (config.isFeatureEnabled(FeatureObjectType.FONT)) {
 					descendant = new HashSet<>();
 					descendant.add(descendantID);
 				}
-				reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
+				report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
 						descendant, null));
 			}
 		} else {
-			reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
+			report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
 					null, null));
 		}
 	}
@@ -1065,19 +1262,24 @@ public final class PBFeatureParser {
 			iccProfileID = getId(base, FeatureObjectType.ICCPROFILE);
 
 			if (checkIDBeforeProcess(iccProfileID)) {
-				reporter.report(PBFeaturesObjectCreator
-						.createICCProfileFeaturesObject(iccBased.getPDStream().getStream(), iccProfileID));
+				report(PBFeaturesObjectCreator
+						.createICCProfileFeaturesObject(iccBased.getPDStream().getStream(), iccProfileID,
+								iccProfileCache));
+				endProcess();
 			}
 
 			COSBase baseAlt = iccBased.getPDStream().getStream().getItem(COSName.ALTERNATE);
 			idAlt = getId(baseAlt, FeatureObjectType.COLORSPACE);
 
 			try {
-				PDColorSpace altclr = iccBased.getAlternateColorSpace();
+				PDColorSpace altclr;
+				synchronized (colorSpaceLock) {
+					altclr = iccBased.getAlternateColorSpace();
+				}
 				idAlt = checkColorSpaceID(idAlt, altclr);
 				if (checkIDBeforeProcess(idAlt)) {
-					parseColorSpace(iccBased.getAlternateColorSpace(), idAlt);
-
+					parseColorSpace(altclr, idAlt);
+					endProcess();
 				}
 			} catch (IOException e) {
 				LOGGER.info(e);
@@ -1094,18 +1296,21 @@ public final class PBFeatureParser {
 
 			try {
 				PDColorSpace alt;
-				if (colorSpace instanceof PDIndexed) {
-					alt = ((PDIndexed) colorSpace).getBaseColorSpace();
-				} else if (colorSpace instanceof PDSeparation) {
-					alt = ((PDSeparation) colorSpace).getAlternateColorSpace();
-				} else {
-					alt = ((PDDeviceN) colorSpace).getAlternateColorSpace();
+				synchronized (colorSpaceLock) {
+					if (colorSpace instanceof PDIndexed) {
+						alt = ((PDIndexed) colorSpace).getBaseColorSpace();
+					} else if (colorSpace instanceof PDSeparation) {
+						alt = ((PDSeparation) colorSpace).getAlternateColorSpace();
+					} else {
+						alt = ((PDDeviceN) colorSpace).getAlternateColorSpace();
+					}
 				}
 
 				idAlt = checkColorSpaceID(idAlt, alt);
 
 				if (checkIDBeforeProcess(idAlt)) {
 					parseColorSpace(alt, idAlt);
+					endProcess();
 				}
 			} catch (IOException e) {
 				LOGGER.info(e);
@@ -1114,7 +1319,7 @@ public final class PBFeatureParser {
 		}
 		iccProfileID = config.isFeatureEnabled(FeatureObjectType.ICCPROFILE) ? iccProfileID : null;
 		idAlt = config.isFeatureEnabled(FeatureObjectType.COLORSPACE) ? idAlt : null;
-		reporter.report(PBFeaturesObjectCreator.createColorSpaceFeaturesObject(colorSpace, id, iccProfileID, idAlt));
+		report(PBFeaturesObjectCreator.createColorSpaceFeaturesObject(colorSpace, id, iccProfileID, idAlt));
 	}
 
 	private static String checkColorSpaceID(String prevID, PDColorSpace colorSpace) {
@@ -1153,14 +1358,56 @@ public final class PBFeatureParser {
 			item = ((COSObject) item).getObject();
 		}
 
+		if (this.buffer != null && item == base) {
+			return objType.getIdPrefix() + type + this.buffer.nextDirectKey();
+		}
 		return objType.getIdPrefix() + type + numb;
 	}
 
+	/**
+	 * Claims the object with the given ID for reporting. Every successful
+	 * claim has to be followed by {@link #endProcess()} once the object is
+	 * processed.
+	 *
+	 * @param id ID of the object
+	 * @return true if the object has not been claimed before and should be
+	 *         processed by the caller
+	 */
 	private boolean checkIDBeforeProcess(String id) {
-		if (id == null || this.processedIDs.contains(id)) {
+		if (id == null) {
 			return false;
 		}
-		this.processedIDs.add(id);
-		return true;
+		boolean claimed = this.processedIDs.add(id);
+		if (this.buffer != null) {
+			if (claimed) {
+				this.buffer.begin(id);
+			} else {
+				this.buffer.reference(id);
+			}
+		}
+		return claimed;
+	}
+
+	private void endProcess() {
+		if (this.buffer != null) {
+			this.buffer.end();
+		}
+	}
+
+	private void report(final FeaturesObject object) {
+		report(new Consumer<FeaturesReporter>() {
+			@Override
+			public void accept(FeaturesReporter featuresReporter) {
+				featuresReporter.report(object);
+			}
+		});
+	}
+
+	private void report(Consumer<FeaturesReporter> action) {
+		if (this.buffer == null) {
+			action.accept(this.reporter);
+		} else {
+			this.buffer.report(action);
+		}
 	}
 }
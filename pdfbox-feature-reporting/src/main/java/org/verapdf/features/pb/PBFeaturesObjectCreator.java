@@ -44,6 +44,7 @@ import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocume
 import org.apache.pdfbox.pdmodel.interactive.form.PDField;
 import org.verapdf.features.objects.*;
 import org.verapdf.features.pb.objects.*;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 
 import java.util.Set;
 
@@ -201,6 +202,20 @@ public final class PBFeaturesObjectCreator {
 		return new ICCProfileFeaturesObject(adapter);
 	}
 
+	/**
+	 * Creates new PBICCProfileFeaturesObjectAdapter
+	 *
+	 * @param profile   COSStream which represents the icc profile for feature report
+	 * @param id        id of the profile
+	 * @param cache     cache of read profiles of the document
+	 * @return created PBICCProfileFeaturesObjectAdapter
+	 */
+	public static ICCProfileFeaturesObject createICCProfileFeaturesObject(COSStream profile, String id,
+			ICCProfileCache cache) {
+		PBICCProfileFeaturesObjectAdapter adapter = new PBICCProfileFeaturesObjectAdapter(profile, id, cache);
+		return new ICCProfileFeaturesObject(adapter);
+	}
+
 	/**
 	 * Creates new PBExtGStateFeaturesObjectAdapter
 	 *
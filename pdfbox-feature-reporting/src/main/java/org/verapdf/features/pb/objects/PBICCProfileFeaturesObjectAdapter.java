@@ -24,6 +24,8 @@ import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.verapdf.features.objects.ICCProfileFeaturesObjectAdapter;
+import org.verapdf.features.pb.tools.ICCProfileCache;
+import org.verapdf.features.pb.tools.ICCProfileReader;
 import org.verapdf.features.pb.tools.PBAdapterHelper;
 
 import java.io.IOException;
@@ -44,7 +46,6 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 	private static final int HEADER_SIZE = 128;
 	private static final int FF_FLAG = 0xFF;
 	private static final int REQUIRED_LENGTH = 4;
-	private static final int TAGINFO_LENGTH = 12;
 	private static final int BITSINBYTE = 8;
 	private static final int VERSION_BYTE = 8;
 	private static final int SUBVERSION_BYTE = 9;
@@ -76,6 +77,7 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 
 	private COSStream profile;
 	private String id;
+	private ICCProfileCache cache;
 	private String version;
 	private String cmmType;
 	private String dataColorSpace;
@@ -96,8 +98,20 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 	 * @param id        id of the profile
 	 */
 	public PBICCProfileFeaturesObjectAdapter(COSStream profile, String id) {
+		this(profile, id, new ICCProfileCache());
+	}
+
+	/**
+	 * Constructs new icc profile feature object adapter
+	 *
+	 * @param profile   COSStream which represents the icc profile for feature report
+	 * @param id        id of the profile
+	 * @param cache     cache of read profiles of the document
+	 */
+	public PBICCProfileFeaturesObjectAdapter(COSStream profile, String id, ICCProfileCache cache) {
 		this.profile = profile;
 		this.id = id;
+		this.cache = cache;
 		init();
 	}
 
@@ -105,8 +119,9 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 		if (profile != null) {
 			this.errors = new ArrayList<>();
 			try {
-				byte[] profileBytes = PBAdapterHelper.inputStreamToByteArray(profile.getUnfilteredStream());
-				if (profileBytes.length < HEADER_SIZE) {
+				ICCProfileReader reader = this.cache.get(profile, "cprt", "desc");
+				byte[] profileBytes = reader.getHeader();
+				if (!reader.isHeaderComplete()) {
 					this.errors.add("ICCProfile contains less than " + HEADER_SIZE + " bytes");
 				} else {
 					this.version = getVersion(profileBytes);
@@ -115,8 +130,8 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 					this.creator = getString(profileBytes, CREATOR_BEGIN, CREATOR_END);
 					this.creationDate = getCreationDate(profileBytes);
 					this.defaultRenderingIntent = getIntent(getString(profileBytes, RENDERINGINTENT_BEGIN, RENDERINGINTENT_END));
-					this.copyright = getStringTag(profileBytes, "cprt", true);
-					this.description = getStringTag(profileBytes, "desc", false);
+					this.copyright = getStringTag(reader.getTagData("cprt"), true);
+					this.description = getStringTag(reader.getTagData("desc"), false);
 					this.profileID = getString(profileBytes, PROFILEID_BEGIN, PROFILEID_END);
 					this.deviceModel = getString(profileBytes, DEVICEMODEL_BEGIN, DEVICEMODEL_END);
 					this.deviceManufacturer = getString(profileBytes, DEVICEMANUFACTURER_BEGIN, DEVICEMANUFACTURER_END);
@@ -327,63 +342,54 @@ public class PBICCProfileFeaturesObjectAdapter implements ICCProfileFeaturesObje
 		return part;
 	}
 
-	private static String getStringTag(byte[] profileBytes, String tagName, boolean isCprt) {
-		if (profileBytes.length < HEADER_SIZE + REQUIRED_LENGTH) {
+	private static String getStringTag(byte[] tagData, boolean isCprt) {
+		if (tagData == null || tagData.length < REQUIRED_LENGTH) {
 			return null;
 		}
+		int offset = 0;
+		int length = tagData.length;
 
-		int tagsNumberRemained = byteArrayToInt(Arrays.copyOfRange(profileBytes, HEADER_SIZE, HEADER_SIZE + REQUIRED_LENGTH));
-
-		int curOffset = HEADER_SIZE + REQUIRED_LENGTH;
-
-		while (tagsNumberRemained-- > 0 && curOffset + TAGINFO_LENGTH <= profileBytes.length) {
-			String tag = new String(Arrays.copyOfRange(profileBytes, curOffset, curOffset + REQUIRED_LENGTH));
-			if (tag.equals(tagName)) {
-				curOffset += REQUIRED_LENGTH;
-				int offset = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset,
-						curOffset + REQUIRED_LENGTH));
-				curOffset += REQUIRED_LENGTH;
-				int length = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset,
-						curOffset + REQUIRED_LENGTH));
-				if (profileBytes.length < offset + length) {
-					return null;
-				}
-
-				String type = new String(Arrays.copyOfRange(profileBytes, offset, offset + REQUIRED_LENGTH));
-				if ("mluc".equals(type)) {
-
-					int number = byteArrayToInt(Arrays.copyOfRange(profileBytes, offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_BEGIN,
-							offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END));
-					int recOffset = offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END + REQUIRED_LENGTH;
-					for (int i = 0; i < number; ++i) {
-						String local = getString(profileBytes, recOffset, recOffset + REQUIRED_LENGTH);
-						if ("enUS".equals(local)) {
-							length = byteArrayToInt(Arrays.copyOfRange(profileBytes, recOffset + REQUIRED_LENGTH,
-									recOffset + REQUIRED_LENGTH + REQUIRED_LENGTH));
-							offset += byteArrayToInt(Arrays.copyOfRange(profileBytes, recOffset + REQUIRED_LENGTH * 2,
-									recOffset + REQUIRED_LENGTH * 2 + REQUIRED_LENGTH));
-							return new String(Arrays.copyOfRange(profileBytes, offset, offset + length), StandardCharsets.UTF_16BE).trim();
-						}
-						recOffset += LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END;
+		String type = new String(Arrays.copyOfRange(tagData, 0, REQUIRED_LENGTH));
+		if ("mluc".equals(type)) {
+			if (tagData.length < NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END) {
+				return null;
+			}
+			int number = byteArrayToInt(Arrays.copyOfRange(tagData, NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_BEGIN,
+					NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END));
+			int recOffset = NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END + REQUIRED_LENGTH;
+			for (int i = 0; i < number && recOffset + LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END <= tagData.length; ++i) {
+				String local = getString(tagData, recOffset, recOffset + REQUIRED_LENGTH);
+				if ("enUS".equals(local)) {
+					length = byteArrayToInt(Arrays.copyOfRange(tagData, recOffset + REQUIRED_LENGTH,
+							recOffset + REQUIRED_LENGTH + REQUIRED_LENGTH));
+					offset = byteArrayToInt(Arrays.copyOfRange(tagData, recOffset + REQUIRED_LENGTH * 2,
+							recOffset + REQUIRED_LENGTH * 2 + REQUIRED_LENGTH));
+					if (offset < 0 || length < 0 || offset > tagData.length) {
+						return null;
 					}
-					return null;
-				} else if ("desc".equals(type)) {
-					length = byteArrayToInt(Arrays.copyOfRange(profileBytes, offset + FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_BEGIN,
-							offset + FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END));
-					offset += FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END;
-				} else if (isCprt) {
-					offset += REQUIRED_LENGTH;
-					length -= REQUIRED_LENGTH;
-				} else {
-					return null;
+					return new String(Arrays.copyOfRange(tagData, offset, offset + length), StandardCharsets.UTF_16BE).trim();
 				}
-
-				return new String(Arrays.copyOfRange(profileBytes, offset, offset + length), StandardCharsets.US_ASCII).trim();
+				recOffset += LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END;
 			}
-			curOffset += TAGINFO_LENGTH;
+			return null;
+		} else if ("desc".equals(type)) {
+			if (tagData.length < FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END) {
+				return null;
+			}
+			length = byteArrayToInt(Arrays.copyOfRange(tagData, FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_BEGIN,
+					FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END));
+			offset = FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END;
+			if (length < 0) {
+				return null;
+			}
+		} else if (isCprt) {
+			offset += REQUIRED_LENGTH;
+			length -= REQUIRED_LENGTH;
+		} else {
+			return null;
 		}
 
-		return null;
+		return new String(Arrays.copyOfRange(tagData, offset, offset + length), StandardCharsets.US_ASCII).trim();
 	}
 
 	private static int byteArrayToInt(byte[] b) {
@@ -0,0 +1,117 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import org.apache.pdfbox.cos.COSStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of read ICC profiles of one document, so profile stream referenced
+ * from many color spaces and output intents is decoded once for validation
+ * and feature extraction.
+ * <p>
+ * Entries are keyed by the identity of profile stream. The owner of the
+ * document creates the cache, shares it between validation and feature
+ * extraction of the document and clears it together with the document.
+ */
+public final class ICCProfileCache {
+
+	private final Map<COSStream, Entry> cache = new IdentityHashMap<>();
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Obtains read ICC profile of the given stream. Stream is decoded again
+	 * only if some of requested tags have not been read before.
+	 *
+	 * @param stream   ICC profile stream
+	 * @param tagNames signatures of tags, which data is required
+	 * @return read profile, shared between all callers
+	 * @throws IOException if stream can not be read
+	 */
+	public synchronized ICCProfileReader get(COSStream stream, String... tagNames) throws IOException {
+		Entry entry = this.cache.get(stream);
+		Set<String> tags = new HashSet<>(Arrays.asList(tagNames));
+		if (entry != null && entry.length == stream.getLength()) {
+			if (entry.reader.getRequestedTags().containsAll(tags)) {
+				this.hits++;
+				return entry.reader;
+			}
+			tags.addAll(entry.reader.getRequestedTags());
+		}
+		this.misses++;
+		ICCProfileReader reader;
+		try (InputStream profile = stream.getUnfilteredStream()) {
+			reader = ICCProfileReader.read(profile, tags.toArray(new String[tags.size()]));
+		}
+		this.cache.put(stream, new Entry(reader, stream.getLength()));
+		return reader;
+	}
+
+	/**
+	 * @return number of requests served from the cache
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * @return number of requests which required decoding of profile stream
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return ratio of requests served from the cache, 0 if there were no
+	 *         requests
+	 */
+	public synchronized double getHitRate() {
+		long total = this.hits + this.misses;
+		return total == 0 ? 0 : (double) this.hits / total;
+	}
+
+	/**
+	 * Releases all read profiles
+	 */
+	public synchronized void clear() {
+		this.cache.clear();
+	}
+
+	private static final class Entry {
+		private final ICCProfileReader reader;
+		// stream content is considered changed if its length differs
+		private final long length;
+
+		private Entry(ICCProfileReader reader, long length) {
+			this.reader = reader;
+			this.length = length;
+		}
+	}
+}
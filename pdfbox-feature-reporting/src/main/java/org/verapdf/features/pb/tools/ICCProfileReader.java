@@ -0,0 +1,210 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded reader of ICC profiles. Reads the 128 byte header and the tag
+ * table, and then only the data of the requested tags, skipping everything
+ * else. The profile is never copied into memory as a whole.
+ */
+public final class ICCProfileReader {
+
+	/** Length of ICC profile header */
+	public static final int HEADER_LENGTH = 128;
+
+	private static final int INT_LENGTH = 4;
+	private static final int TAG_ENTRY_LENGTH = 12;
+	// tag data longer than this is not read
+	private static final int MAX_TAG_LENGTH = 1 << 16;
+
+	private final byte[] header;
+	private final Set<String> requestedTags;
+	private final Map<String, byte[]> tags;
+
+	private ICCProfileReader(byte[] header, Set<String> requestedTags, Map<String, byte[]> tags) {
+		this.header = header;
+		this.requestedTags = requestedTags;
+		this.tags = tags;
+	}
+
+	/**
+	 * Reads header and requested tags of ICC profile. Stream is not closed.
+	 *
+	 * @param stream   decoded ICC profile data
+	 * @param tagNames signatures of tags to read, like {@code desc}
+	 * @return reader with the profile header and data of requested tags
+	 * @throws IOException if stream can not be read
+	 */
+	public static ICCProfileReader read(InputStream stream, String... tagNames) throws IOException {
+		Set<String> requestedTags = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(tagNames)));
+		byte[] header = new byte[HEADER_LENGTH];
+		int headerLength = readFully(stream, header, HEADER_LENGTH);
+		if (headerLength < HEADER_LENGTH) {
+			return new ICCProfileReader(Arrays.copyOf(header, headerLength), requestedTags,
+					Collections.<String, byte[]>emptyMap());
+		}
+		if (requestedTags.isEmpty()) {
+			return new ICCProfileReader(header, requestedTags, Collections.<String, byte[]>emptyMap());
+		}
+
+		byte[] buffer = new byte[TAG_ENTRY_LENGTH];
+		if (readFully(stream, buffer, INT_LENGTH) < INT_LENGTH) {
+			return new ICCProfileReader(header, requestedTags, Collections.<String, byte[]>emptyMap());
+		}
+		long position = HEADER_LENGTH + INT_LENGTH;
+		long tagCount = toUnsignedInt(buffer, 0);
+		Set<String> requested = new HashSet<>(requestedTags);
+		List<TagEntry> entries = new ArrayList<>(tagNames.length);
+		for (long i = 0; i < tagCount && entries.size() < requested.size(); ++i) {
+			if (readFully(stream, buffer, TAG_ENTRY_LENGTH) < TAG_ENTRY_LENGTH) {
+				break;
+			}
+			position += TAG_ENTRY_LENGTH;
+			String signature = new String(buffer, 0, INT_LENGTH, StandardCharsets.US_ASCII);
+			if (requested.remove(signature)) {
+				entries.add(new TagEntry(signature, toUnsignedInt(buffer, INT_LENGTH),
+						toUnsignedInt(buffer, INT_LENGTH * 2)));
+			}
+		}
+		Collections.sort(entries, (first, second) -> Long.compare(first.offset, second.offset));
+
+		Map<String, byte[]> tags = new HashMap<>();
+		TagEntry lastRead = null;
+		byte[] lastData = null;
+		for (TagEntry entry : entries) {
+			if (entry.length > MAX_TAG_LENGTH) {
+				continue;
+			}
+			if (entry.offset >= position) {
+				if (skipFully(stream, entry.offset - position) < entry.offset - position) {
+					break;
+				}
+				position = entry.offset;
+				byte[] data = new byte[(int) entry.length];
+				int read = readFully(stream, data, data.length);
+				position += read;
+				if (read < data.length) {
+					break;
+				}
+				tags.put(entry.signature, data);
+				lastRead = entry;
+				lastData = data;
+			} else if (lastRead != null && entry.offset >= lastRead.offset
+					&& entry.offset + entry.length <= lastRead.offset + lastRead.length) {
+				// tags may share data with the previous one
+				int from = (int) (entry.offset - lastRead.offset);
+				tags.put(entry.signature, Arrays.copyOfRange(lastData, from, from + (int) entry.length));
+			}
+		}
+		return new ICCProfileReader(header, requestedTags, tags);
+	}
+
+	/**
+	 * @return profile header, shorter than {@link #HEADER_LENGTH} if the
+	 *         profile is truncated
+	 */
+	public byte[] getHeader() {
+		return this.header;
+	}
+
+	/**
+	 * @return true if the profile contains complete header
+	 */
+	public boolean isHeaderComplete() {
+		return this.header.length == HEADER_LENGTH;
+	}
+
+	/**
+	 * @return signatures of tags requested while reading the profile
+	 */
+	public Set<String> getRequestedTags() {
+		return this.requestedTags;
+	}
+
+	/**
+	 * @param signature signature of the tag
+	 * @return data of the tag starting with its type signature or null if
+	 *         the tag is absent, was not requested or can not be read
+	 */
+	public byte[] getTagData(String signature) {
+		return this.tags.get(signature);
+	}
+
+	private static long toUnsignedInt(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = offset; i < offset + INT_LENGTH; ++i) {
+			value = (value << 8) | (bytes[i] & 0xFF);
+		}
+		return value;
+	}
+
+	private static int readFully(InputStream stream, byte[] buffer, int length) throws IOException {
+		int total = 0;
+		while (total < length) {
+			int read = stream.read(buffer, total, length - total);
+			if (read < 0) {
+				break;
+			}
+			total += read;
+		}
+		return total;
+	}
+
+	private static long skipFully(InputStream stream, long length) throws IOException {
+		long total = 0;
+		while (total < length) {
+			long skipped = stream.skip(length - total);
+			if (skipped <= 0) {
+				// skip may return 0 before the end of stream
+				if (stream.read() < 0) {
+					break;
+				}
+				skipped = 1;
+			}
+			total += skipped;
+		}
+		return total;
+	}
+
+	private static final class TagEntry {
+		private final String signature;
+		private final long offset;
+		private final long length;
+
+		private TagEntry(String signature, long offset, long length) {
+			this.signature = signature;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.test;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSStream;
+import org.junit.Test;
+import org.verapdf.features.pb.tools.ICCProfileCache;
+import org.verapdf.features.pb.tools.ICCProfileReader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ICCProfileCacheTest {
+
+	@Test
+	public void repeatedRequestIsServedFromCacheTest() throws IOException {
+		COSStream stream = createProfileStream();
+		ICCProfileCache cache = new ICCProfileCache();
+		ICCProfileReader first = cache.get(stream, "desc");
+		assertSame(first, cache.get(stream, "desc"));
+		assertSame(first, cache.get(stream));
+		assertEquals(1, cache.getMisses());
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test
+	public void missingTagsAreReadAgainTest() throws IOException {
+		COSStream stream = createProfileStream();
+		ICCProfileCache cache = new ICCProfileCache();
+		ICCProfileReader header = cache.get(stream);
+		ICCProfileReader tags = cache.get(stream, "cprt", "desc");
+		assertNotSame(header, tags);
+		assertSame(tags, cache.get(stream));
+		assertEquals(2, cache.getMisses());
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void cachesOfDifferentDocumentsAreIndependentTest() throws IOException {
+		COSStream stream = createProfileStream();
+		ICCProfileCache first = new ICCProfileCache();
+		ICCProfileCache second = new ICCProfileCache();
+		ICCProfileReader reader = first.get(stream);
+		assertNotSame(reader, second.get(stream));
+		assertEquals(1, first.getMisses());
+		assertEquals(0, first.getHits());
+		assertEquals(1, second.getMisses());
+		assertEquals(0, second.getHits());
+	}
+
+	@Test
+	public void clearTest() throws IOException {
+		COSStream stream = createProfileStream();
+		ICCProfileCache cache = new ICCProfileCache();
+		ICCProfileReader reader = cache.get(stream);
+		cache.clear();
+		assertNotSame(reader, cache.get(stream));
+		assertEquals(2, cache.getMisses());
+	}
+
+	private static COSStream createProfileStream() throws IOException {
+		COSStream stream = new COSStream(new COSDictionary());
+		try (OutputStream out = stream.createUnfilteredStream()) {
+			out.write(new byte[ICCProfileReader.HEADER_LENGTH]);
+		}
+		return stream;
+	}
+}
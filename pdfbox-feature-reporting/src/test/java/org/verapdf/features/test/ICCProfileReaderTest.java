@@ -0,0 +1,85 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.test;
+
+import org.junit.Test;
+import org.verapdf.features.pb.tools.ICCProfileReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ICCProfileReaderTest {
+
+	@Test
+	public void truncatedHeaderTest() throws IOException {
+		ICCProfileReader reader = ICCProfileReader.read(new ByteArrayInputStream(new byte[100]), "desc");
+		assertFalse(reader.isHeaderComplete());
+		assertEquals(100, reader.getHeader().length);
+		assertNull(reader.getTagData("desc"));
+	}
+
+	@Test
+	public void requestedTagsTest() throws IOException {
+		byte[] cprt = "text\u0000\u0000\u0000\u0000Copyright".getBytes(StandardCharsets.US_ASCII);
+		byte[] desc = "desc\u0000\u0000\u0000\u0000Description".getBytes(StandardCharsets.US_ASCII);
+		byte[] wtpt = new byte[20];
+		int tableEnd = ICCProfileReader.HEADER_LENGTH + 4 + 3 * 12;
+		int wtptOffset = tableEnd;
+		int descOffset = wtptOffset + wtpt.length;
+		int cprtOffset = descOffset + desc.length;
+		byte[] profile = new byte[cprtOffset + cprt.length];
+		profile[8] = 2;
+		putInt(profile, ICCProfileReader.HEADER_LENGTH, 3);
+		putEntry(profile, ICCProfileReader.HEADER_LENGTH + 4, "cprt", cprtOffset, cprt.length);
+		putEntry(profile, ICCProfileReader.HEADER_LENGTH + 16, "wtpt", wtptOffset, wtpt.length);
+		putEntry(profile, ICCProfileReader.HEADER_LENGTH + 28, "desc", descOffset, desc.length);
+		System.arraycopy(wtpt, 0, profile, wtptOffset, wtpt.length);
+		System.arraycopy(desc, 0, profile, descOffset, desc.length);
+		System.arraycopy(cprt, 0, profile, cprtOffset, cprt.length);
+
+		ICCProfileReader reader = ICCProfileReader.read(new ByteArrayInputStream(profile), "cprt", "desc");
+		assertTrue(reader.isHeaderComplete());
+		assertEquals(2, reader.getHeader()[8]);
+		assertArrayEquals(cprt, reader.getTagData("cprt"));
+		assertArrayEquals(desc, reader.getTagData("desc"));
+		assertNull(reader.getTagData("wtpt"));
+	}
+
+	private static void putEntry(byte[] profile, int position, String signature, int offset, int length) {
+		System.arraycopy(signature.getBytes(StandardCharsets.US_ASCII), 0, profile, position, 4);
+		putInt(profile, position + 4, offset);
+		putInt(profile, position + 8, length);
+	}
+
+	private static void putInt(byte[] profile, int position, int value) {
+		profile[position] = (byte) (value >>> 24);
+		profile[position + 1] = (byte) (value >>> 16);
+		profile[position + 2] = (byte) (value >>> 8);
+		profile[position + 3] = (byte) value;
+	}
+}
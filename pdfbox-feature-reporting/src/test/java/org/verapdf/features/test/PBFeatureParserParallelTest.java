@@ -0,0 +1,124 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.test;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.verapdf.features.FeatureExtractionResult;
+import org.verapdf.features.FeatureExtractorConfig;
+import org.verapdf.features.FeatureFactory;
+import org.verapdf.features.FeatureObjectType;
+import org.verapdf.features.pb.PBFeatureParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class PBFeatureParserParallelTest {
+	private static final int PAGES = 8;
+
+	private static byte[] pdf;
+	private static FeatureExtractorConfig config;
+	private static ExecutorService executor;
+
+	@BeforeClass
+	public static void before() throws IOException {
+		config = FeatureFactory.configFromValues(EnumSet.allOf(FeatureObjectType.class));
+		executor = Executors.newFixedThreadPool(4);
+		try (PDDocument document = new PDDocument()) {
+			for (int i = 0; i < PAGES; ++i) {
+				PDResources resources = new PDResources();
+				// the font is shared by all pages, graphics states are not
+				resources.put(COSName.getPDFName("F1"), PDType1Font.HELVETICA);
+				PDExtendedGraphicsState graphicsState = new PDExtendedGraphicsState();
+				graphicsState.setLineWidth(i + 1f);
+				resources.put(COSName.getPDFName("GS1"), graphicsState);
+				PDPage page = new PDPage();
+				page.setResources(resources);
+				document.addPage(page);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			document.save(out);
+			pdf = out.toByteArray();
+		}
+	}
+
+	@AfterClass
+	public static void after() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void parallelMatchesSequentialTest() throws IOException {
+		try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdf), false, true)) {
+			FeatureExtractionResult sequential = PBFeatureParser.getFeaturesCollection(document, config);
+			FeatureExtractionResult parallel = PBFeatureParser.getFeaturesCollection(document, config, executor);
+			assertEquals(sequential, parallel);
+			assertEquals(PAGES, parallel.getFeatureTreesForType(FeatureObjectType.PAGE).size());
+			assertEquals(PAGES, parallel.getFeatureTreesForType(FeatureObjectType.EXT_G_STATE).size());
+			assertEquals(1, parallel.getFeatureTreesForType(FeatureObjectType.FONT).size());
+		}
+	}
+
+	@Test
+	public void parallelIsDeterministicTest() throws IOException {
+		FeatureExtractionResult expected = null;
+		for (int run = 0; run < 5; ++run) {
+			try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdf), false, true)) {
+				FeatureExtractionResult result = PBFeatureParser.getFeaturesCollection(document, config, executor);
+				if (expected == null) {
+					expected = result;
+				} else {
+					assertEquals(expected, result);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void sharedPoolTest() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try (PDDocument first = PDDocument.load(new ByteArrayInputStream(pdf), false, true);
+			 PDDocument second = PDDocument.load(new ByteArrayInputStream(pdf), false, true)) {
+			FeatureExtractionResult sequential = PBFeatureParser.getFeaturesCollection(first, config);
+			// both documents use the same two threads
+			FeatureExtractionResult firstResult = PBFeatureParser.getFeaturesCollection(first, config, pool);
+			FeatureExtractionResult secondResult = PBFeatureParser.getFeaturesCollection(second, config, pool);
+			assertEquals(sequential, firstResult);
+			assertEquals(sequential, secondResult);
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -36,6 +36,7 @@ import org.verapdf.metadata.fixer.impl.pb.schemas.XMPBasicSchemaImpl;
 import org.verapdf.metadata.fixer.schemas.AdobePDF;
 import org.verapdf.metadata.fixer.schemas.DublinCore;
 import org.verapdf.metadata.fixer.schemas.XMPBasic;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 import org.verapdf.pdfa.results.MetadataFixerResult;
 import org.verapdf.pdfa.results.MetadataFixerResultImpl;
@@ -52,12 +53,23 @@ public class MetadataImpl implements Metadata {
 
     private final VeraPDFMeta metadata;
     private final COSStream stream;
+    private final XMPCache xmpCache;
 
     /**
      * @param metadata
      * @param stream
      */
     public MetadataImpl(VeraPDFMeta metadata, COSStream stream) {
+        this(metadata, stream, null);
+    }
+
+    /**
+     * @param metadata
+     * @param stream
+     * @param xmpCache cache of the document, that is invalidated when the
+     *                 stream is updated, may be {@code null}
+     */
+    public MetadataImpl(VeraPDFMeta metadata, COSStream stream, XMPCache xmpCache) {
         if (metadata == null) {
             throw new IllegalArgumentException(
                     "Metadata package can not be null");
@@ -68,6 +80,7 @@ public class MetadataImpl implements Metadata {
         }
         this.metadata = metadata;
         this.stream = stream;
+        this.xmpCache = xmpCache;
     }
 
     @Override
@@ -236,6 +249,10 @@ public class MetadataImpl implements Metadata {
         }
         try (OutputStream out = this.stream.createUnfilteredStream()) {
             VeraPDFMeta.serialize(this.metadata, out);
+        } finally {
+            if (this.xmpCache != null) {
+                this.xmpCache.invalidate(this.stream);
+            }
         }
     }
 }
@@ -31,6 +31,7 @@ import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.verapdf.metadata.fixer.entity.InfoDictionary;
 import org.verapdf.metadata.fixer.entity.Metadata;
 import org.verapdf.metadata.fixer.entity.PDFDocument;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.verapdf.pdfa.results.MetadataFixerResult;
 import org.verapdf.pdfa.results.MetadataFixerResultImpl;
 
@@ -50,6 +51,7 @@ public class PDFDocumentImpl implements PDFDocument {
 	private static final Logger LOGGER = Logger.getLogger(PDFDocumentImpl.class);
 
 	private final PDDocument document;
+	private final XMPCache xmpCache;
 	private MetadataImpl metadata;
 	private InfoDictionaryImpl info;
 	private boolean isUnfiltered = false;
@@ -70,10 +72,19 @@ public class PDFDocumentImpl implements PDFDocument {
 	 * @param document
 	 */
 	public PDFDocumentImpl(PDDocument document) {
+		this(document, new XMPCache());
+	}
+
+	/**
+	 * @param document
+	 * @param xmpCache cache of parsed XMP packages of the document
+	 */
+	public PDFDocumentImpl(PDDocument document, XMPCache xmpCache) {
 		if (document == null) {
 			throw new IllegalArgumentException("Document representation can not be null");
 		}
 		this.document = document;
+		this.xmpCache = xmpCache;
 		this.metadata = parseMetadata();
 		this.info = this.getInfo();
 	}
@@ -86,7 +97,7 @@ public class PDFDocumentImpl implements PDFDocument {
 				catalog.setMetadata(new PDMetadata(stream));
 				catalog.getCOSObject().setNeedToBeUpdated(true);
 				VeraPDFMeta xmp = VeraPDFMeta.create();
-				return new MetadataImpl(xmp, stream);
+				return new MetadataImpl(xmp, stream, this.xmpCache);
 			} catch (IOException excep) {
 				// TODO Auto-generated catch block
 				excep.printStackTrace();
@@ -95,11 +106,11 @@ public class PDFDocumentImpl implements PDFDocument {
 		return parseMetadata(meta);
 	}
 
-	private static MetadataImpl parseMetadata(PDMetadata meta) {
+	private MetadataImpl parseMetadata(PDMetadata meta) {
 		try {
-			VeraPDFMeta xmp = VeraPDFMeta.parse(meta.getStream().getUnfilteredStream());
+			VeraPDFMeta xmp = this.xmpCache.take(meta.getStream());
 			if (xmp != null) {
-				return new MetadataImpl(xmp, meta.getStream());
+				return new MetadataImpl(xmp, meta.getStream(), this.xmpCache);
 			}
 		} catch (IOException e) {
 			LOGGER.debug("Problems with document parsing or structure. " + e.getMessage(), e);
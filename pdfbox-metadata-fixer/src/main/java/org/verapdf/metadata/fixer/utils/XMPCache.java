@@ -0,0 +1,111 @@
+/**
+ * This file is part of veraPDF Metadata Fixer, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Metadata Fixer is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Metadata Fixer as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Metadata Fixer as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.metadata.fixer.utils;
+
+import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.xmp.XMPException;
+import org.verapdf.xmp.impl.VeraPDFMeta;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Document scoped cache of parsed XMP packages, so metadata stream of a
+ * document is parsed once for flavour detection, validation and metadata
+ * fixing. Cache is owned by the holder of the document and is released
+ * together with it.
+ * <p>
+ * Entries are keyed by the identity of metadata stream. Parsed package is
+ * shared between all readers and must not be modified, code that changes
+ * metadata should obtain its own package with {@link #take(COSStream)}.
+ * Every change of the stream content must be followed by
+ * {@link #invalidate(COSStream)}.
+ */
+public final class XMPCache {
+
+	private final Map<COSStream, Entry> entries = new IdentityHashMap<>();
+
+	/**
+	 * Obtains parsed XMP package of the given metadata stream. Stream is
+	 * parsed on the first request only.
+	 *
+	 * @param stream metadata stream
+	 * @return shared parsed XMP package, that must not be modified
+	 * @throws IOException  if stream can not be read
+	 * @throws XMPException if stream is not a valid XMP package
+	 */
+	public synchronized VeraPDFMeta get(COSStream stream) throws IOException, XMPException {
+		Entry entry = this.entries.get(stream);
+		if (entry != null && entry.length == stream.getLength()) {
+			return entry.metadata;
+		}
+		VeraPDFMeta metadata = parse(stream);
+		this.entries.put(stream, new Entry(metadata, stream.getLength()));
+		return metadata;
+	}
+
+	/**
+	 * Obtains parsed XMP package of the given metadata stream for
+	 * modification. Stream is always parsed again, so changes of the
+	 * returned package are never observed by other readers.
+	 *
+	 * @param stream metadata stream
+	 * @return new parsed XMP package owned by the caller
+	 * @throws IOException  if stream can not be read
+	 * @throws XMPException if stream is not a valid XMP package
+	 */
+	public VeraPDFMeta take(COSStream stream) throws IOException, XMPException {
+		return parse(stream);
+	}
+
+	/**
+	 * Removes parsed package of the given stream from the cache. Should be
+	 * called after the content of the stream is changed.
+	 *
+	 * @param stream changed metadata stream
+	 */
+	public synchronized void invalidate(COSStream stream) {
+		this.entries.remove(stream);
+	}
+
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	private static VeraPDFMeta parse(COSStream stream) throws IOException, XMPException {
+		try (InputStream is = stream.getUnfilteredStream()) {
+			return VeraPDFMeta.parse(is);
+		}
+	}
+
+	private static final class Entry {
+		private final VeraPDFMeta metadata;
+		// stream length at the moment of parsing, guards against missed invalidation
+		private final long length;
+
+		Entry(VeraPDFMeta metadata, long length) {
+			this.metadata = metadata;
+			this.length = length;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 import org.verapdf.pdfa.results.MetadataFixerResultImpl;
 
@@ -41,6 +42,8 @@ import java.util.Arrays;
 import java.util.Collection;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Maksim Bezrukov
@@ -81,4 +84,27 @@ public class MetadataImplTest {
             }
         }
     }
+
+    @Test
+    public void updateMetadataStreamInvalidatesCacheTest() throws IOException, XMPException {
+        try (PDDocument doc = PDDocument.load(getClass().getClassLoader().getResourceAsStream(filePath), false, true)) {
+            COSStream cosStream = doc.getDocumentCatalog().getMetadata().getStream();
+            XMPCache cache = new XMPCache();
+            VeraPDFMeta cached = cache.get(cosStream);
+            assertSame(cached, cache.get(cosStream));
+
+            VeraPDFMeta xmp = cache.take(cosStream);
+            assertNotSame(cached, xmp);
+            MetadataImpl impl = new MetadataImpl(xmp, cosStream, cache);
+            xmp.setIdentificationConformance("A");
+            impl.setNeedToBeUpdated(true);
+            // shared package never observes changes of the taken one
+            assertEquals(fileConformance, cached.getIdentificationConformance());
+
+            impl.updateMetadataStream();
+            VeraPDFMeta updated = cache.get(cosStream);
+            assertNotSame(cached, updated);
+            assertEquals("A", updated.getIdentificationConformance());
+        }
+    }
 }
@@ -37,17 +37,27 @@ import org.verapdf.features.FeatureExtractorConfig;
 import org.verapdf.features.pb.PBFeatureParser;
 import org.verapdf.metadata.fixer.entity.PDFDocument;
 import org.verapdf.metadata.fixer.impl.pb.model.PDFDocumentImpl;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ContentStreamCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosDocument;
 import org.verapdf.pdfa.Foundries;
 import org.verapdf.pdfa.PDFAParser;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Current class is entry point to model implementation.
@@ -65,30 +75,154 @@ public final class ModelParser implements PDFAParser {
 
 	private static final Logger logger = Logger.getLogger(ModelParser.class);
 
+	private static final String TEMP_FILE_PREFIX = "verapdf";
+	private static final String TEMP_FILE_SUFFIX = ".pdf";
+	private static final int BUFFER_SIZE = 8192;
+
 	private PDDocument document;
 
+	// copy of the document stream, if it is stored in temporary file
+	private File tempFile;
+
 	private final PDFAFlavour flavour;
 
-	private ModelParser(final InputStream docStream, PDFAFlavour flavour) throws IOException {
-		this.document = PDDocument.load(docStream, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+	private final ValidationContext context;
+
+	// executor of the feature extraction page tasks, null for sequential extraction
+	private ExecutorService featurePageExecutor;
+
+	private ModelParser(final InputStream docStream, PDFAFlavour flavour, ParserConfig config) throws IOException {
+		this.document = load(docStream, config);
+		this.context = ValidationContext.open(this.document);
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, this.context) : flavour;
+	}
+
+	private ModelParser(final File pdfFile, PDFAFlavour flavour, ParserConfig config) throws IOException {
+		this.document = load(pdfFile, config);
+		this.context = ValidationContext.open(this.document);
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, this.context) : flavour;
+	}
+
+	private ModelParser(final File pdfFile, PDFAFlavour flavour, PDFAFlavour defaultFlavour, ParserConfig config)
+			throws IOException {
+		this.document = load(pdfFile, config);
+		this.context = ValidationContext.open(this.document);
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? ((defaultFlavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, this.context) : obtainFlavour(this.document, this.context, defaultFlavour)) : flavour;
+	}
+
+	private PDDocument load(InputStream docStream, ParserConfig config) throws IOException {
+		if (config == null || config == ParserConfig.DEFAULT) {
+			return PDDocument.load(docStream, false, true);
+		}
+		switch (config.getStorageMode()) {
+			case MAIN_MEMORY:
+				return PDDocument.load(new LimitedInputStream(docStream, config.getMaxMainMemoryBytes()), false, true);
+			case MIXED:
+				if (config.getMaxMainMemoryBytes() < 0) {
+					return PDDocument.load(docStream, false, true);
+				}
+				// one byte over the limit tells that the document does not fit
+				long maxMainMemoryBytes = config.getMaxMainMemoryBytes();
+				HeadBuffer head = HeadBuffer.read(docStream,
+						maxMainMemoryBytes == Long.MAX_VALUE ? maxMainMemoryBytes : maxMainMemoryBytes + 1);
+				if (head.size() <= maxMainMemoryBytes) {
+					return PDDocument.load(head.toInputStream(), false, true);
+				}
+				return loadFromTempFile(new SequenceInputStream(head.toInputStream(), docStream), config);
+			default:
+				return loadFromTempFile(docStream, config);
+		}
+	}
+
+	/**
+	 * Loads the document from file. The file is read on demand, unless the
+	 * configuration keeps the document in main memory.
+	 */
+	private static PDDocument load(File pdfFile, ParserConfig config) throws IOException {
+		if (config == null || config == ParserConfig.DEFAULT) {
+			return PDDocument.load(pdfFile, false, true);
+		}
+		long length = pdfFile.length();
+		switch (config.getStorageMode()) {
+			case MAIN_MEMORY:
+				checkLimit(length, config.getMaxMainMemoryBytes());
+				return loadIntoMainMemory(pdfFile, config.getMaxMainMemoryBytes());
+			case MIXED:
+				if (config.getMaxMainMemoryBytes() < 0 || length <= config.getMaxMainMemoryBytes()) {
+					return loadIntoMainMemory(pdfFile, config.getMaxMainMemoryBytes());
+				}
+				checkLimit(length, config.getMaxStorageBytes());
+				return PDDocument.load(pdfFile, false, true);
+			default:
+				// the file itself is the storage, so it is not copied
+				checkLimit(length, config.getMaxStorageBytes());
+				return PDDocument.load(pdfFile, false, true);
+		}
+	}
+
+	private static PDDocument loadIntoMainMemory(File pdfFile, long maxBytes) throws IOException {
+		try (InputStream in = new LimitedInputStream(new FileInputStream(pdfFile), maxBytes)) {
+			return PDDocument.load(in, false, true);
+		}
+	}
+
+	private static void checkLimit(long length, long maxBytes) throws IOException {
+		if (maxBytes >= 0 && length > maxBytes) {
+			throw new IOException("Document is larger than " + maxBytes + " bytes");
+		}
 	}
 
-	private ModelParser(final File pdfFile, PDFAFlavour flavour) throws IOException {
-		this.document = PDDocument.load(pdfFile, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+	/**
+	 * Copies the stream into temporary file and loads the document from it,
+	 * file is read on demand and is deleted when the parser is closed.
+	 */
+	private PDDocument loadFromTempFile(InputStream docStream, ParserConfig config) throws IOException {
+		this.tempFile = File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, config.getTempDir());
+		try {
+			try (InputStream in = new LimitedInputStream(docStream, config.getMaxStorageBytes());
+				 OutputStream out = new FileOutputStream(this.tempFile)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					out.write(buffer, 0, read);
+				}
+			}
+			return PDDocument.load(this.tempFile, false, true);
+		} catch (IOException e) {
+			deleteTempFile();
+			throw e;
+		}
 	}
 
-	private ModelParser(final File pdfFile, PDFAFlavour flavour, PDFAFlavour defaultFlavour) throws IOException {
-		this.document = PDDocument.load(pdfFile, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? ((defaultFlavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : obtainFlavour(this.document, defaultFlavour)) : flavour;
+	private void deleteTempFile() {
+		if (this.tempFile != null) {
+			if (!this.tempFile.delete()) {
+				logger.debug("Temporary file " + this.tempFile + " was not deleted.");
+			}
+			this.tempFile = null;
+		}
 	}
 
 	public static ModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
+		return createModelWithFlavour(toLoad, flavour, ParserConfig.DEFAULT);
+	}
+
+	/**
+	 * Loads document from the stream with the given storage configuration.
+	 * Unless the document is kept in main memory, the stream is copied into
+	 * temporary file instead of heap.
+	 *
+	 * @param toLoad  stream of the document
+	 * @param flavour flavour of validation, {@link PDFAFlavour#NO_FLAVOUR} to
+	 *                obtain it from the document metadata
+	 * @param config  storage configuration of the document
+	 * @return parser of the loaded document
+	 */
+	public static ModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour, ParserConfig config)
+			throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
-			return new ModelParser(toLoad, flavour);
+			return new ModelParser(toLoad, flavour, config);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
 		} catch (IOException excep) {
@@ -98,9 +232,24 @@ public final class ModelParser implements PDFAParser {
 
 	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
+		return createModelWithFlavour(pdfFile, flavour, ParserConfig.DEFAULT);
+	}
+
+	/**
+	 * Loads document from the file with the given storage configuration.
+	 * Unless the document is kept in main memory, the file is read on demand
+	 * and is not copied.
+	 *
+	 * @param pdfFile file of the document
+	 * @param flavour flavour of validation, {@link PDFAFlavour#NO_FLAVOUR} to
+	 *                obtain it from the document metadata
+	 * @param config  storage configuration of the document
+	 * @return parser of the loaded document
+	 */
+	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour, ParserConfig config)
+			throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
-			return new ModelParser(pdfFile, flavour);
+			return new ModelParser(pdfFile, flavour, config);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
 		} catch (IOException excep) {
@@ -110,9 +259,13 @@ public final class ModelParser implements PDFAParser {
 
 	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour, PDFAFlavour defaultFlavour)
 			throws ModelParsingException, EncryptedPdfException {
+		return createModelWithFlavour(pdfFile, flavour, defaultFlavour, ParserConfig.DEFAULT);
+	}
+
+	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour, PDFAFlavour defaultFlavour,
+			ParserConfig config) throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
-			return new ModelParser(pdfFile, flavour, defaultFlavour);
+			return new ModelParser(pdfFile, flavour, defaultFlavour, config);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
 		} catch (IOException excep) {
@@ -120,11 +273,12 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	private static PDFAFlavour obtainFlavour(PDDocument document) {
-		return obtainFlavour(document, Foundries.defaultInstance().defaultFlavour());
+	private static PDFAFlavour obtainFlavour(PDDocument document, ValidationContext context) {
+		return obtainFlavour(document, context, Foundries.defaultInstance().defaultFlavour());
 	}
 
-	private static PDFAFlavour obtainFlavour(PDDocument document, PDFAFlavour defaultFlavour) {
+	private static PDFAFlavour obtainFlavour(PDDocument document, ValidationContext context,
+			PDFAFlavour defaultFlavour) {
 		if (document == null || document.getDocumentCatalog() == null) {
 			return defaultFlavour;
 		}
@@ -132,8 +286,11 @@ public final class ModelParser implements PDFAParser {
 		if (metadata == null) {
 			return defaultFlavour;
 		}
-		try (InputStream is = metadata.exportXMPMetadata()) {
-			VeraPDFMeta veraPDFMeta = VeraPDFMeta.parse(is);
+		if (metadata.getStream() == null) {
+			return defaultFlavour;
+		}
+		try {
+			VeraPDFMeta veraPDFMeta = context.getXMPCache().get(metadata.getStream());
 			Integer identificationPart = veraPDFMeta.getIdentificationPart();
 			String identificationConformance = veraPDFMeta.getIdentificationConformance();
 			String prefix = "";
@@ -158,13 +315,9 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	private static void cleanUp() {
-		StaticContainers.clearAllContainers();
-	}
-
 	@Override
 	public PDFDocument getPDFDocument() {
-		return new PDFDocumentImpl(this.document);
+		return new PDFDocumentImpl(this.document, this.context.getXMPCache());
 	}
 
 	@Override
@@ -184,7 +337,45 @@ public final class ModelParser implements PDFAParser {
 	 */
 	@Override
 	public org.verapdf.model.baselayer.Object getRoot() {
-		return new PBCosDocument(this.document, this.flavour);
+		return new PBCosDocument(this.document, this.flavour, this.context);
+	}
+
+	/**
+	 * Limits number of pages, which keep their parsed content streams and
+	 * annotations in memory. When more pages are parsed, parsed content of the
+	 * least recently parsed page is released and is parsed again on demand.
+	 *
+	 * @param pageWindowSize maximal number of pages with parsed content,
+	 *                       non positive value means no limit
+	 */
+	public void setPageWindowSize(int pageWindowSize) {
+		this.context.setPageWindowSize(pageWindowSize);
+	}
+
+	/**
+	 * Limits memory used by parsed form XObjects, Type3 glyph procedures and
+	 * tiling patterns shared between their places of invocation. When the
+	 * limit is exceeded, least recently used streams are released and are
+	 * parsed again on demand.
+	 *
+	 * @param maxOperators maximal total number of cached operators, non
+	 *                     positive value means no limit, default is
+	 *                     {@link ContentStreamCache#DEFAULT_MAX_OPERATORS}
+	 */
+	public void setContentStreamCacheSize(long maxOperators) {
+		this.context.getContentStreamCache().setMaxOperators(maxOperators);
+	}
+
+	/**
+	 * Makes feature extraction parse the pages of the document in parallel.
+	 *
+	 * @param featurePageExecutor executor of the page parsing tasks, which may
+	 *                            be shared between parsers and is not shut
+	 *                            down by them, {@code null} to parse the pages
+	 *                            sequentially
+	 */
+	public void setFeaturePageExecutor(ExecutorService featurePageExecutor) {
+		this.featurePageExecutor = featurePageExecutor;
 	}
 
 	@Override
@@ -194,17 +385,20 @@ public final class ModelParser implements PDFAParser {
 
 	@Override
 	public FeatureExtractionResult getFeatures(FeatureExtractorConfig config) {
-		return PBFeatureParser.getFeaturesCollection(this.document, config);
+		return getFeatures(config, Collections.<AbstractFeaturesExtractor>emptyList());
 	}
 
 	@Override
 	public FeatureExtractionResult getFeatures(FeatureExtractorConfig config,
 			List<AbstractFeaturesExtractor> extractors) {
-		return PBFeatureParser.getFeaturesCollection(this.document, extractors, config);
+		// profiles read during validation are reused by feature extraction
+		return PBFeatureParser.getFeaturesCollection(this.document, extractors, config, this.featurePageExecutor,
+				this.context.getICCProfileCache());
 	}
 
 	@Override
 	public void close() {
+		this.context.close();
 		try {
 			if (this.document != null) {
 				this.document.close();
@@ -212,5 +406,68 @@ public final class ModelParser implements PDFAParser {
 		} catch (IOException e) {
 			logger.error("Problems with document close.", e);
 		}
+		deleteTempFile();
+	}
+
+	/**
+	 * Fails reading as soon as more bytes than allowed are read.
+	 */
+	/**
+	 * Beginning of the stream read into main memory, which is read again
+	 * without copying.
+	 */
+	private static final class HeadBuffer extends ByteArrayOutputStream {
+
+		static HeadBuffer read(InputStream stream, long maxBytes) throws IOException {
+			HeadBuffer head = new HeadBuffer();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long remaining = maxBytes;
+			int read;
+			while (remaining > 0 && (read = stream.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+				head.write(buffer, 0, read);
+				remaining -= read;
+			}
+			return head;
+		}
+
+		InputStream toInputStream() {
+			return new ByteArrayInputStream(this.buf, 0, this.count);
+		}
+	}
+
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private final long maxBytes;
+		private long count = 0;
+
+		LimitedInputStream(InputStream in, long maxBytes) {
+			super(in);
+			this.maxBytes = maxBytes;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) {
+				count(1);
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = super.read(b, off, len);
+			if (result > 0) {
+				count(result);
+			}
+			return result;
+		}
+
+		private void count(int read) throws IOException {
+			this.count += read;
+			if (this.maxBytes >= 0 && this.count > this.maxBytes) {
+				throw new IOException("Document is larger than " + this.maxBytes + " bytes");
+			}
+		}
 	}
 }
@@ -0,0 +1,122 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model;
+
+import java.io.File;
+
+/**
+ * Configuration of document loading by {@link ModelParser}. Defines where
+ * bytes of the document are kept while it is validated and how many of them
+ * may be kept.
+ * <p>
+ * By default pdf box copies the whole stream into main memory and reads
+ * files on demand. In {@link StorageMode#MIXED} and
+ * {@link StorageMode#TEMP_FILE} modes the stream is copied into temporary
+ * file instead, which is read on demand in the same way as documents loaded
+ * from a file, and is deleted when the parser is closed. The limits apply to
+ * the bytes of the document only, decoded stream data is kept by pdf box
+ * regardless of them.
+ */
+public final class ParserConfig {
+
+	/**
+	 * Keeps the document in main memory without limits, the way documents
+	 * are loaded by default.
+	 */
+	public static final ParserConfig DEFAULT = new ParserConfig(StorageMode.MAIN_MEMORY, -1, -1, null);
+
+	/**
+	 * Storage of the document
+	 */
+	public enum StorageMode {
+		/** only main memory is used, loading fails if the limit is exceeded */
+		MAIN_MEMORY,
+		/**
+		 * main memory is used if the document fits the limit, temporary file
+		 * otherwise
+		 */
+		MIXED,
+		/** only temporary file is used, loading fails if the limit is exceeded */
+		TEMP_FILE
+	}
+
+	private final StorageMode storageMode;
+	private final long maxMainMemoryBytes;
+	private final long maxStorageBytes;
+	private final File tempDir;
+
+	private ParserConfig(StorageMode storageMode, long maxMainMemoryBytes, long maxStorageBytes, File tempDir) {
+		this.storageMode = storageMode;
+		this.maxMainMemoryBytes = maxMainMemoryBytes;
+		this.maxStorageBytes = maxStorageBytes;
+		this.tempDir = tempDir;
+	}
+
+	/**
+	 * @param maxMainMemoryBytes maximal size of the document in main memory,
+	 *                           negative value means no limit
+	 * @return configuration keeping the document in main memory only
+	 */
+	public static ParserConfig mainMemory(long maxMainMemoryBytes) {
+		return new ParserConfig(StorageMode.MAIN_MEMORY, maxMainMemoryBytes, maxMainMemoryBytes, null);
+	}
+
+	/**
+	 * @param maxMainMemoryBytes maximal size of the document kept in main
+	 *                           memory, larger documents are stored in
+	 *                           temporary file
+	 * @param maxStorageBytes    maximal size of the document in temporary
+	 *                           file, negative value means no limit
+	 * @param tempDir            directory for temporary file, {@code null} for
+	 *                           default temporary directory
+	 * @return configuration spilling large documents to temporary file
+	 */
+	public static ParserConfig mixed(long maxMainMemoryBytes, long maxStorageBytes, File tempDir) {
+		return new ParserConfig(StorageMode.MIXED, maxMainMemoryBytes, maxStorageBytes, tempDir);
+	}
+
+	/**
+	 * @param maxStorageBytes maximal size of temporary file, negative value
+	 *                        means no limit
+	 * @param tempDir         directory for temporary file, {@code null} for
+	 *                        default temporary directory
+	 * @return configuration keeping the document in temporary file only
+	 */
+	public static ParserConfig tempFile(long maxStorageBytes, File tempDir) {
+		return new ParserConfig(StorageMode.TEMP_FILE, 0, maxStorageBytes, tempDir);
+	}
+
+	public StorageMode getStorageMode() {
+		return this.storageMode;
+	}
+
+	public long getMaxMainMemoryBytes() {
+		return this.maxMainMemoryBytes;
+	}
+
+	public long getMaxStorageBytes() {
+		return this.maxStorageBytes;
+	}
+
+	public File getTempDir() {
+		return this.tempDir;
+	}
+}
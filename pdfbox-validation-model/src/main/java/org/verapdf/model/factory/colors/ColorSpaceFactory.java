@@ -25,7 +25,8 @@ import org.apache.pdfbox.pdmodel.graphics.color.*;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDShadingPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ColorSpaceCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.colors.*;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDShadingPattern;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDTilingPattern;
@@ -94,22 +95,31 @@ public class ColorSpaceFactory {
 		if (colorSpace == null) {
 			return null;
 		}
-		if (StaticContainers.getCachedColorSpaces().containsKey(colorSpace)) {
-			return StaticContainers.getCachedColorSpaces().get(colorSpace);
-		}
+		// objects without document are not shared
+		ColorSpaceCache cache = document != null ?
+				ValidationContext.of(document).getColorSpaceCache() : new ColorSpaceCache();
 		PDColorSpace result;
 		switch (colorSpace.getName()) {
 		case CAL_GRAY:
-			result = new PBoxPDCalGray((PDCalGray) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDCalGray((PDCalGray) colorSpace);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case CAL_RGB:
-			result = new PBoxPDCalRGB((PDCalRGB) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDCalRGB((PDCalRGB) colorSpace);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case DEVICE_N:
-			result = new PBoxPDDeviceN((PDDeviceN) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDDeviceN((PDDeviceN) colorSpace, document, flavour);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case DEVICE_CMYK:
 			if (colorSpace.isInherited()) {
@@ -128,25 +138,41 @@ public class ColorSpaceFactory {
 			return PBoxPDDeviceGray.getInstance();
 		case ICC_BASED:
 			if (colorSpace.getNumberOfComponents() != 4) {
-				result = new PBoxPDICCBased((PDICCBased) colorSpace);
-				StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+				result = cache.get(colorSpace);
+				if (result == null) {
+					result = new PBoxPDICCBased((PDICCBased) colorSpace, document);
+					cache.put(colorSpace, result);
+				}
 				return result;
 			}
-			// we don't want to cache ICCBasedCMYK color space because it can be
-			// used with different extgstates
-			result = new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
+			// ICCBasedCMYK color space depends on the extgstate it is used with,
+			// so it is cached per overprint mode and overprint flag
+			result = cache.get(colorSpace, opm, overprintingFlag);
+			if (result == null) {
+				result = new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag, document);
+				cache.put(colorSpace, opm, overprintingFlag, result);
+			}
 			return result;
 		case LAB:
-			result = new PBoxPDLab((PDLab) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDLab((PDLab) colorSpace);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case SEPARATION:
-			result = new PBoxPDSeparation((PDSeparation) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDSeparation((PDSeparation) colorSpace, document, flavour);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case INDEXED:
-			result = new PBoxPDIndexed((PDIndexed) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
+			result = cache.get(colorSpace);
+			if (result == null) {
+				result = new PBoxPDIndexed((PDIndexed) colorSpace, document, flavour);
+				cache.put(colorSpace, result);
+			}
 			return result;
 		case PATTERN:
 			return getPattern(pattern, resources, document, flavour);
@@ -22,6 +22,7 @@ package org.verapdf.model.factory.operator;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.operator.Operator;
@@ -42,7 +43,7 @@ public final class OperatorFactory {
 
     private static final Logger LOGGER = Logger
             .getLogger(OperatorFactory.class);
-    private static final String MSG_UNEXPECTED_OBJECT_TYPE = "Unexpected type of object in tokens: ";
+    static final String MSG_UNEXPECTED_OBJECT_TYPE = "Unexpected type of object in tokens: ";
     private static final String GS_CLONE_MALFUNCTION = "GraphicsState clone function threw CloneNotSupportedException.";
 
     private boolean isLastParsedContainsTransparency = false;
@@ -120,27 +121,9 @@ public final class OperatorFactory {
             if (pdfBoxToken instanceof COSBase) {
                 arguments.add((COSBase) pdfBoxToken);
             } else if (pdfBoxToken instanceof org.apache.pdfbox.contentstream.operator.Operator) {
-                try {
-                    parser.parseOperator(result,
-                            (org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken,
-                            resources, arguments);
-
-                    String parsedOperatorType = ((org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken).getName();
-                    GraphicState graphicState = parser.getGraphicState();
-                    if (PAINT_OPERATORS_WITHOUT_TEXT.containsKey(parsedOperatorType)) {
-                        isLastParsedContainsTransparency |= PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType).containsTransparency(graphicState);
-                    } else {
-                        RenderingMode renderingMode = graphicState.getRenderingMode();
-                        if (PAINT_OPERATORS_TEXT.contains(parsedOperatorType) && RENDERING_MODE.containsKey(renderingMode)) {
-                            isLastParsedContainsTransparency |= RENDERING_MODE.get(renderingMode).containsTransparency(graphicState);
-                        }
-                    }
-                } catch (CloneNotSupportedException e) {
-                    LOGGER.debug("GraphicsState clone issues for pdfBoxToken:" + pdfBoxToken);
-                    LOGGER.debug(GS_CLONE_MALFUNCTION, e);
-                } catch (IOException e) {
-                    LOGGER.debug(e);
-                }
+                isLastParsedContainsTransparency |= parseOperator(parser, result,
+                        (org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken,
+                        resources, arguments);
                 arguments = new ArrayList<>();
             } else {
                 LOGGER.debug(MSG_UNEXPECTED_OBJECT_TYPE
@@ -149,4 +132,53 @@ public final class OperatorFactory {
         }
         return result;
     }
+
+    /**
+     * Creates lazily produced sequence of veraPDF-library operators, that pulls
+     * tokens from the given parser on demand. Unlike
+     * {@link #operatorsFromTokens(List, PDInheritableResources, PDDocument, PDFAFlavour)}
+     * the whole content stream is never materialized in memory.
+     *
+     * @param streamParser parser of the content stream, {@link PDFStreamParser#parse()}
+     *                     should not be called on it.
+     *                     Null value results in empty sequence
+     * @param resources    resources for a given stream
+     * @return sequence of {@link Operator} objects, that can be traversed only once
+     */
+    public OperatorStream operatorsFromParser(PDFStreamParser streamParser,
+                                              PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+        return new OperatorStream(streamParser, resources, document, flavour);
+    }
+
+    /**
+     * Converts single pdfbox operator with its arguments and adds the result to the given list
+     *
+     * @return true if converted operator contains transparency
+     */
+    static boolean parseOperator(OperatorParser parser, List<Operator> result,
+                                 org.apache.pdfbox.contentstream.operator.Operator pdfBoxOperator,
+                                 PDInheritableResources resources, List<COSBase> arguments) {
+        try {
+            parser.parseOperator(result, pdfBoxOperator, resources, arguments);
+
+            String parsedOperatorType = pdfBoxOperator.getName();
+            TransparencyBehaviour behaviour = PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType);
+            if (behaviour != null) {
+                return behaviour.containsTransparency(parser.getCurrentGraphicState());
+            }
+            if (PAINT_OPERATORS_TEXT.contains(parsedOperatorType)) {
+                GraphicState graphicState = parser.getCurrentGraphicState();
+                behaviour = RENDERING_MODE.get(graphicState.getRenderingMode());
+                if (behaviour != null) {
+                    return behaviour.containsTransparency(graphicState);
+                }
+            }
+        } catch (CloneNotSupportedException e) {
+            LOGGER.debug("GraphicsState clone issues for pdfBoxToken:" + pdfBoxOperator);
+            LOGGER.debug(GS_CLONE_MALFUNCTION, e);
+        } catch (IOException e) {
+            LOGGER.debug(e);
+        }
+        return false;
+    }
 }
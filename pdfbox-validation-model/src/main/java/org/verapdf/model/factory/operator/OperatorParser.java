@@ -93,7 +93,10 @@ class OperatorParser {
 	private static final String MSG_PROBLEM_OBTAINING_RESOURCE = "Problem encountered while obtaining resources for ";
 
 	private final Deque<GraphicState> graphicStateStack = new ArrayDeque<>();
-	private final GraphicState graphicState = new GraphicState();
+	private GraphicState graphicState = new GraphicState();
+	// true if current graphic state is referenced from the stack or from
+	// a text show operator and should be copied before modification
+	private boolean graphicStateShared = false;
 
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
@@ -104,10 +107,25 @@ class OperatorParser {
 		this.flavour = flavour;
 	}
 
-	public GraphicState getGraphicState() {
-		GraphicState gs = new GraphicState();
-		gs.copyProperties(this.graphicState);
-		return gs;
+	/**
+	 * @return current graphic state without copying. Returned object
+	 * should not be modified
+	 */
+	GraphicState getCurrentGraphicState() {
+		return this.graphicState;
+	}
+
+	private GraphicState getWritableGraphicState() throws CloneNotSupportedException {
+		if (this.graphicStateShared) {
+			this.graphicState = this.graphicState.clone();
+			this.graphicStateShared = false;
+		}
+		return this.graphicState;
+	}
+
+	private GraphicState shareGraphicState() {
+		this.graphicStateShared = true;
+		return this.graphicState;
 	}
 
 	void parseOperator(List<Operator> operators,
@@ -172,52 +190,52 @@ class OperatorParser {
 			case Operators.G_STROKE: {
 				cs = resources == null ? PDDeviceGray.INSTANCE :
 						resources.getColorSpace(COSName.DEVICEGRAY);
-				this.graphicState.setStrokeColorSpace(cs);
+				getWritableGraphicState().setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.G_FILL: {
 				cs = resources == null ? PDDeviceGray.INSTANCE :
 						resources.getColorSpace(COSName.DEVICEGRAY);
-				this.graphicState.setFillColorSpace(cs);
+				getWritableGraphicState().setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.RG_STROKE: {
 				cs = resources == null ? PDDeviceRGB.INSTANCE :
 						resources.getColorSpace(COSName.DEVICERGB);
-				this.graphicState.setStrokeColorSpace(cs);
+				getWritableGraphicState().setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.RG_FILL: {
 				cs = resources == null ? PDDeviceRGB.INSTANCE :
 						resources.getColorSpace(COSName.DEVICERGB);
-				this.graphicState.setFillColorSpace(cs);
+				getWritableGraphicState().setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.K_STROKE: {
 				cs = resources == null ? PDDeviceCMYK.INSTANCE :
 						resources.getColorSpace(COSName.DEVICECMYK);
-				this.graphicState.setStrokeColorSpace(cs);
+				getWritableGraphicState().setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.K_FILL: {
 				cs = resources == null ? PDDeviceCMYK.INSTANCE :
 						resources.getColorSpace(COSName.DEVICECMYK);
-				this.graphicState.setFillColorSpace(cs);
+				getWritableGraphicState().setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.CS_STROKE:
-				this.graphicState.setStrokeColorSpace(getColorSpaceFromResources(
+				getWritableGraphicState().setStrokeColorSpace(getColorSpaceFromResources(
 						resources, getLastCOSName(arguments)));
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			case Operators.CS_FILL:
-				this.graphicState.setFillColorSpace(getColorSpaceFromResources(
+				getWritableGraphicState().setFillColorSpace(getColorSpaceFromResources(
 						resources, getLastCOSName(arguments)));
 				operators.add(this.getFillColorOperator(arguments));
 				break;
@@ -258,22 +276,22 @@ class OperatorParser {
 
 			// TEXT SHOW
 			case Operators.TJ_SHOW:
-				PBOp_Tj tj = new PBOp_Tj(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_Tj tj = new PBOp_Tj(arguments, shareGraphicState(), resources, this.document, this.flavour);
 				addFontAndColorSpace(tj);
 				operators.add(tj);
 				break;
 			case Operators.TJ_SHOW_POS:
-				PBOp_TJ_Big tj_big = new PBOp_TJ_Big(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_TJ_Big tj_big = new PBOp_TJ_Big(arguments, shareGraphicState(), resources, this.document, this.flavour);
 				addFontAndColorSpace(tj_big);
 				operators.add(tj_big);
 				break;
 			case Operators.QUOTE:
-				PBOp_Quote quote = new PBOp_Quote(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_Quote quote = new PBOp_Quote(arguments, shareGraphicState(), resources, this.document, this.flavour);
 				addFontAndColorSpace(quote);
 				operators.add(quote);
 				break;
 			case Operators.DOUBLE_QUOTE:
-				PBOp_DoubleQuote doubleQuote = new PBOp_DoubleQuote(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_DoubleQuote doubleQuote = new PBOp_DoubleQuote(arguments, shareGraphicState(), resources, this.document, this.flavour);
 				addFontAndColorSpace(doubleQuote);
 				operators.add(doubleQuote);
 				break;
@@ -283,11 +301,11 @@ class OperatorParser {
 				operators.add(new PBOp_Tz(arguments));
 				break;
 			case Operators.TR:
-				this.graphicState.setRenderingMode(getRenderingMode(arguments));
+				getWritableGraphicState().setRenderingMode(getRenderingMode(arguments));
 				operators.add(new PBOp_Tr(arguments));
 				break;
 			case Operators.TF:
-				this.graphicState.setFontName(getFirstCOSName(arguments));
+				getWritableGraphicState().setFontName(getFirstCOSName(arguments));
 				operators.add(new PBOp_Tf(arguments));
 				break;
 			case Operators.TC:
@@ -420,12 +438,13 @@ class OperatorParser {
 				break;
 			case Operators.Q_GRESTORE:
 				if (!graphicStateStack.isEmpty()) {
-					this.graphicState.copyProperties(this.graphicStateStack.pop());
+					this.graphicState = this.graphicStateStack.pop();
+					this.graphicStateShared = true;
 				}
 				operators.add(new PBOp_Q_grestore(arguments));
 				break;
 			case Operators.Q_GSAVE:
-				this.graphicStateStack.push(this.graphicState.clone());
+				this.graphicStateStack.push(shareGraphicState());
 				operators.add(new PBOp_q_gsave(arguments, this.graphicStateStack.size()));
 				break;
 
@@ -436,7 +455,7 @@ class OperatorParser {
 				List<org.verapdf.model.pdlayer.PDXObject> pdxObjects = op.getXObject();
 				if (!pdxObjects.isEmpty()) {
 					PBoxPDXObject xobj = (PBoxPDXObject) pdxObjects.get(0);
-					this.graphicState.setVeraXObject(xobj);
+					getWritableGraphicState().setVeraXObject(xobj);
 				}
 				operators.add(op);
 				break;
@@ -459,10 +478,10 @@ class OperatorParser {
 	}
 
 	private void setFillPatternColorSpace(List<Operator> operators, PDColorSpace colorSpace,
-										  PDInheritableResources resources, List<COSBase> arguments) {
+										  PDInheritableResources resources, List<COSBase> arguments) throws CloneNotSupportedException {
 		if (colorSpace != null &&
 				ColorSpaceFactory.PATTERN.equals(colorSpace.getName())) {
-			graphicState.setFillPattern(getPatternFromResources(resources,
+			getWritableGraphicState().setFillPattern(getPatternFromResources(resources,
 					getLastCOSName(arguments)));
 		}
 		org.verapdf.model.pdlayer.PDColorSpace modelColorSpace = ColorSpaceFactory.getColorSpace(
@@ -471,10 +490,10 @@ class OperatorParser {
 	}
 
 	private void setStrokePatternColorSpace(List<Operator> operators, PDColorSpace colorSpace,
-											PDInheritableResources resources, List<COSBase> arguments) {
+											PDInheritableResources resources, List<COSBase> arguments) throws CloneNotSupportedException {
 		if (colorSpace != null &&
 				ColorSpaceFactory.PATTERN.equals(colorSpace.getName())) {
-			graphicState.setStrokePattern(getPatternFromResources(resources,
+			getWritableGraphicState().setStrokePattern(getPatternFromResources(resources,
 					getLastCOSName(arguments)));
 		}
 		org.verapdf.model.pdlayer.PDColorSpace modelColorSpace = ColorSpaceFactory.getColorSpace(
@@ -483,10 +502,10 @@ class OperatorParser {
 	}
 
 	private void addExtGState(List<Operator> operators,
-							  PDInheritableResources resources, List<COSBase> arguments) {
+							  PDInheritableResources resources, List<COSBase> arguments) throws CloneNotSupportedException {
 		PDExtendedGraphicsState extGState = getExtGStateFromResources(resources,
 				getLastCOSName(arguments));
-		graphicState.copyPropertiesFromExtGState(extGState);
+		getWritableGraphicState().copyPropertiesFromExtGState(extGState);
 		operators.add(new PBOp_gs(arguments, extGState, this.document, this.flavour));
 	}
 
@@ -602,21 +621,27 @@ class OperatorParser {
 		}
 	}
 
-	private void addFontAndColorSpace(PBOpTextShow op) {
+	private void addFontAndColorSpace(PBOpTextShow op) throws CloneNotSupportedException {
 		PBoxPDFont font = (PBoxPDFont) op.getVeraModelFont();
-		this.graphicState.setVeraFont(font);
 		byte[] charCodes = op.getCharCodes();
-		this.graphicState.setCharCodes(charCodes);
 		PBoxPDColorSpace fillCS = (PBoxPDColorSpace) op.getVeraModelFillColorSpace();
-		this.graphicState.setVeraFillColorSpace(fillCS);
 		PBoxPDColorSpace strokeCS = (PBoxPDColorSpace) op.getVeraModelStrokeColorSpace();
-		this.graphicState.setVeraStrokeColorSpace(strokeCS);
+		GraphicState state = getWritableGraphicState();
+		state.setVeraFont(font);
+		state.setCharCodes(charCodes);
+		state.setVeraFillColorSpace(fillCS);
+		state.setVeraStrokeColorSpace(strokeCS);
 	}
 
-	private void addColorSpace(PBOpPathPaint op) {
+	private void addColorSpace(PBOpPathPaint op) throws CloneNotSupportedException {
 		PBoxPDColorSpace fillCS = (PBoxPDColorSpace) op.getVeraModelFillCS();
-		this.graphicState.setVeraFillColorSpace(fillCS);
 		PBoxPDColorSpace strokeCS = (PBoxPDColorSpace) op.getVeraModelStrokeCS();
-		this.graphicState.setVeraStrokeColorSpace(strokeCS);
+		// avoid copying of the shared state when nothing is changed
+		if (this.graphicState.getVeraFillColorSpace() != fillCS
+				|| this.graphicState.getVeraStrokeColorSpace() != strokeCS) {
+			GraphicState state = getWritableGraphicState();
+			state.setVeraFillColorSpace(fillCS);
+			state.setVeraStrokeColorSpace(strokeCS);
+		}
 	}
 }
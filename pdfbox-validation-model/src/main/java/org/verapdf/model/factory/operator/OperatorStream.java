@@ -0,0 +1,145 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.factory.operator;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily produced sequence of veraPDF-library operators. Tokens are pulled
+ * from the underlying {@link PDFStreamParser} one by one and converted as the
+ * sequence is traversed, so neither the token list nor the operator list of
+ * the whole content stream is held in memory.
+ * <p>
+ * The sequence can be traversed at most once.
+ */
+public final class OperatorStream implements Iterable<Operator> {
+
+	private static final Logger LOGGER = Logger.getLogger(OperatorStream.class);
+
+	private final PDFStreamParser streamParser;
+	private final PDInheritableResources resources;
+	private final OperatorParser parser;
+
+	private boolean traversed = false;
+	private boolean containsTransparency = false;
+	private boolean failed = false;
+
+	OperatorStream(PDFStreamParser streamParser, PDInheritableResources resources,
+				   PDDocument document, PDFAFlavour flavour) {
+		this.streamParser = streamParser;
+		this.resources = resources;
+		this.parser = new OperatorParser(document, flavour);
+	}
+
+	/**
+	 * @return iterator over operators of the content stream
+	 * @throws IllegalStateException if the sequence has already been traversed
+	 */
+	@Override
+	public Iterator<Operator> iterator() {
+		if (this.traversed) {
+			throw new IllegalStateException("Operator stream can be traversed only once");
+		}
+		this.traversed = true;
+		return new OperatorIterator();
+	}
+
+	/**
+	 * @return true if any of the operators produced so far contains transparency.
+	 * The value is final once the sequence is exhausted
+	 */
+	public boolean isContainsTransparency() {
+		return this.containsTransparency;
+	}
+
+	/**
+	 * @return true if reading of the content stream was interrupted by an error
+	 */
+	public boolean isFailed() {
+		return this.failed;
+	}
+
+	private class OperatorIterator implements Iterator<Operator> {
+
+		private final List<Operator> pending = new ArrayList<>(1);
+		private List<COSBase> arguments = new ArrayList<>();
+		private int position = 0;
+		private boolean finished = false;
+
+		@Override
+		public boolean hasNext() {
+			while (this.position >= this.pending.size() && !this.finished) {
+				this.pending.clear();
+				this.position = 0;
+				readNextOperator();
+			}
+			return this.position < this.pending.size();
+		}
+
+		@Override
+		public Operator next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.pending.get(this.position++);
+		}
+
+		private void readNextOperator() {
+			if (streamParser == null) {
+				this.finished = true;
+				return;
+			}
+			try {
+				Object token;
+				while ((token = streamParser.parseNextToken()) != null) {
+					if (token instanceof COSBase) {
+						this.arguments.add((COSBase) token);
+					} else if (token instanceof org.apache.pdfbox.contentstream.operator.Operator) {
+						containsTransparency |= OperatorFactory.parseOperator(parser, this.pending,
+								(org.apache.pdfbox.contentstream.operator.Operator) token,
+								resources, this.arguments);
+						this.arguments = new ArrayList<>();
+						return;
+					} else {
+						LOGGER.debug(OperatorFactory.MSG_UNEXPECTED_OBJECT_TYPE
+								+ token.getClass().getName());
+					}
+				}
+			} catch (IOException e) {
+				LOGGER.debug("Error while parsing content stream. " + e.getMessage(), e);
+				failed = true;
+			}
+			this.finished = true;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.verapdf.model.pdlayer.PDColorSpace;
+import org.verapdf.model.tools.CosFingerprint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Document scoped cache of color space model objects. Pdf box creates new
+ * color space object on every resource lookup, so color spaces are identified
+ * by their pdf box objects: indirect ones by object key and direct ones by
+ * {@link CosFingerprint}. ICCBased CMYK color spaces depend on the overprint
+ * state they are used with, which therefore is a part of their key.
+ */
+public class ColorSpaceCache {
+
+	private final Map<Key, PDColorSpace> entries = new HashMap<>();
+	private final CosFingerprint fingerprint = new CosFingerprint();
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Obtains cached model object of the given color space.
+	 *
+	 * @param colorSpace pdf box color space
+	 * @return cached model object or {@code null} if the color space was not
+	 *         cached yet or it can not be cached
+	 */
+	public PDColorSpace get(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace) {
+		return get(getKey(colorSpace, 0, false));
+	}
+
+	/**
+	 * Obtains cached model object of the given ICCBased CMYK color space.
+	 *
+	 * @param colorSpace       pdf box color space
+	 * @param opm              overprint mode the color space is used with
+	 * @param overprintingFlag overprint flag the color space is used with
+	 * @return cached model object or {@code null} if the color space was not
+	 *         cached yet with the same overprint state or it can not be cached
+	 */
+	public PDColorSpace get(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
+							int opm, boolean overprintingFlag) {
+		return get(getKey(colorSpace, opm, overprintingFlag));
+	}
+
+	/**
+	 * Stores model object of the given color space.
+	 *
+	 * @param colorSpace pdf box color space
+	 * @param result     model object of the color space
+	 */
+	public void put(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace, PDColorSpace result) {
+		put(getKey(colorSpace, 0, false), result);
+	}
+
+	/**
+	 * Stores model object of the given ICCBased CMYK color space.
+	 *
+	 * @param colorSpace       pdf box color space
+	 * @param opm              overprint mode the color space is used with
+	 * @param overprintingFlag overprint flag the color space is used with
+	 * @param result           model object of the color space
+	 */
+	public void put(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace, int opm,
+					boolean overprintingFlag, PDColorSpace result) {
+		put(getKey(colorSpace, opm, overprintingFlag), result);
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return part of lookups served from the cache, {@code 0} if there were
+	 *         no lookups
+	 */
+	public double getHitRate() {
+		long total = this.hits + this.misses;
+		return total == 0 ? 0 : (double) this.hits / total;
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	public void clear() {
+		this.entries.clear();
+		this.fingerprint.clear();
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	private PDColorSpace get(Key key) {
+		if (key == null) {
+			return null;
+		}
+		PDColorSpace result = this.entries.get(key);
+		if (result != null) {
+			this.hits++;
+		} else {
+			this.misses++;
+		}
+		return result;
+	}
+
+	private void put(Key key, PDColorSpace result) {
+		if (key != null && result != null) {
+			this.entries.put(key, result);
+		}
+	}
+
+	private Key getKey(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
+							  int opm, boolean overprintingFlag) {
+		if (colorSpace == null) {
+			return null;
+		}
+		COSBase base = colorSpace.getCOSObject();
+		if (base == null) {
+			return null;
+		}
+		Object object = base.getKey();
+		if (object == null) {
+			if (!(base instanceof COSArray || base instanceof COSName)) {
+				return null;
+			}
+			object = this.fingerprint.of(base);
+		}
+		return new Key(object, opm, overprintingFlag);
+	}
+
+	/**
+	 * Object key of indirect color space or fingerprint of direct one together
+	 * with overprint state.
+	 */
+	private static final class Key {
+
+		private final Object object;
+		private final int opm;
+		private final boolean overprintingFlag;
+
+		Key(Object object, int opm, boolean overprintingFlag) {
+			this.object = object;
+			this.opm = opm;
+			this.overprintingFlag = overprintingFlag;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Key key = (Key) o;
+			return this.object.equals(key.object)
+					&& this.opm == key.opm
+					&& this.overprintingFlag == key.overprintingFlag;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.object.hashCode();
+			result = 31 * result + this.opm;
+			result = 31 * result + (this.overprintingFlag ? 1 : 0);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Document scoped cache of parsed content streams. Operators of a content
+ * stream depend only on the stream itself, on the resources it is parsed with
+ * and on the flavour: parsing always starts from the default graphic state, so
+ * the graphic state at the place of invocation does not affect the result. The
+ * same stream parsed with the same resource dictionaries therefore yields the
+ * same operators, and they can be shared between all places of invocation.
+ * <p>
+ * Memory used by the cache is limited by the total number of cached
+ * operators, least recently used entries are evicted first.
+ */
+public class ContentStreamCache {
+
+	/**
+	 * Default limit of the total number of cached operators
+	 */
+	public static final long DEFAULT_MAX_OPERATORS = 500_000;
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long maxOperators = DEFAULT_MAX_OPERATORS;
+	private long operatorsCount = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * Obtains cached parsing result for the given stream. On a hit the
+	 * returned entry holds resources object of the caller, that has stored
+	 * the entry, not the given {@code resources}: names resolved during
+	 * parsing are collected there.
+	 *
+	 * @param streamKey key of the content stream object
+	 * @param resources resources used for parsing
+	 * @param flavour   flavour used for parsing
+	 * @return cached entry or {@code null} if the stream was not parsed yet
+	 *         with the same resources, or it can not be cached
+	 */
+	public Entry get(COSObjectKey streamKey, PDInheritableResources resources, PDFAFlavour flavour) {
+		if (streamKey == null || resources == null) {
+			return null;
+		}
+		Entry entry = this.entries.get(new Key(streamKey, resources, flavour));
+		if (entry != null) {
+			this.hits++;
+		} else {
+			this.misses++;
+		}
+		return entry;
+	}
+
+	/**
+	 * Stores parsing result of the given stream.
+	 *
+	 * @param streamKey            key of the content stream object
+	 * @param resources            resources used for parsing
+	 * @param flavour              flavour used for parsing
+	 * @param operators            parsed operators
+	 * @param containsTransparency true if parsed operators contain transparency
+	 */
+	public void put(COSObjectKey streamKey, PDInheritableResources resources, PDFAFlavour flavour,
+					List<Operator> operators, boolean containsTransparency) {
+		if (streamKey == null || resources == null
+				|| (this.maxOperators > 0 && operators.size() > this.maxOperators)) {
+			return;
+		}
+		Entry previous = this.entries.put(new Key(streamKey, resources, flavour),
+				new Entry(operators, containsTransparency, resources));
+		if (previous != null) {
+			this.operatorsCount -= previous.getOperators().size();
+		}
+		this.operatorsCount += operators.size();
+		evict();
+	}
+
+	/**
+	 * @return maximal total number of cached operators, non positive value
+	 *         means no limit, {@link #DEFAULT_MAX_OPERATORS} by default
+	 */
+	public long getMaxOperators() {
+		return this.maxOperators;
+	}
+
+	/**
+	 * @param maxOperators maximal total number of cached operators, non
+	 *                     positive value means no limit
+	 */
+	public void setMaxOperators(long maxOperators) {
+		this.maxOperators = maxOperators;
+		evict();
+	}
+
+	private void evict() {
+		if (this.maxOperators <= 0) {
+			return;
+		}
+		Iterator<Entry> iterator = this.entries.values().iterator();
+		while (this.operatorsCount > this.maxOperators && iterator.hasNext()) {
+			this.operatorsCount -= iterator.next().getOperators().size();
+			iterator.remove();
+			this.evictions++;
+		}
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+
+	public long getEvictions() {
+		return this.evictions;
+	}
+
+	/**
+	 * @return part of lookups served from the cache, {@code 0} if there were
+	 *         no lookups
+	 */
+	public double getHitRate() {
+		long total = this.hits + this.misses;
+		return total == 0 ? 0 : (double) this.hits / total;
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	public void clear() {
+		this.entries.clear();
+		this.operatorsCount = 0;
+		this.hits = 0;
+		this.misses = 0;
+		this.evictions = 0;
+	}
+
+	/**
+	 * Result of a content stream parsing. Resources are kept together with
+	 * operators as they collect undefined and inherited resource names during
+	 * parsing.
+	 */
+	public static final class Entry {
+
+		private final List<Operator> operators;
+		private final boolean containsTransparency;
+		private final PDInheritableResources resources;
+
+		Entry(List<Operator> operators, boolean containsTransparency, PDInheritableResources resources) {
+			this.operators = operators;
+			this.containsTransparency = containsTransparency;
+			this.resources = resources;
+		}
+
+		public List<Operator> getOperators() {
+			return this.operators;
+		}
+
+		public boolean isContainsTransparency() {
+			return this.containsTransparency;
+		}
+
+		public PDInheritableResources getResources() {
+			return this.resources;
+		}
+	}
+
+	/**
+	 * Resource dictionaries are compared by identity: the same dictionary
+	 * object always resolves names to the same resources.
+	 */
+	private static final class Key {
+
+		private final COSObjectKey streamKey;
+		private final COSDictionary currentResources;
+		private final COSDictionary inheritedResources;
+		private final boolean emptyResources;
+		private final PDFAFlavour flavour;
+
+		Key(COSObjectKey streamKey, PDInheritableResources resources, PDFAFlavour flavour) {
+			// graphic state is not part of the key: operator parser starts
+			// every content stream from a fresh GraphicState, so the state at
+			// the place of invocation never reaches the parsed operators
+			this.streamKey = streamKey;
+			this.currentResources = getDictionary(resources.getCurrentResources());
+			this.inheritedResources = getDictionary(resources.getInheritedResources());
+			this.emptyResources = resources == PDInheritableResources.EMPTY_EXTENDED_RESOURCES;
+			this.flavour = flavour;
+		}
+
+		private static COSDictionary getDictionary(PDResources resources) {
+			return resources == null ? null : resources.getCOSObject();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Key key = (Key) o;
+			return this.streamKey.equals(key.streamKey)
+					&& this.currentResources == key.currentResources
+					&& this.inheritedResources == key.inheritedResources
+					&& this.emptyResources == key.emptyResources
+					&& this.flavour == key.flavour;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.streamKey.hashCode();
+			result = 31 * result + System.identityHashCode(this.currentResources);
+			result = 31 * result + System.identityHashCode(this.inheritedResources);
+			result = 31 * result + (this.emptyResources ? 1 : 0);
+			result = 31 * result + (this.flavour != null ? this.flavour.hashCode() : 0);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps page dictionaries of a document to their zero based page numbers and
+ * back. The page tree is traversed once, on the first lookup, after that
+ * every lookup takes constant time.
+ */
+public final class PageIndex {
+
+	private final COSDictionary[] pageDictionaries;
+	private final List<PDPage> pages;
+	private final Map<COSDictionary, Integer> pageNumbers;
+
+	PageIndex(PDPageTree pageTree) {
+		List<PDPage> pages = new ArrayList<>(Math.max(pageTree.getCount(), 0));
+		for (PDPage page : pageTree) {
+			pages.add(page);
+		}
+		this.pageDictionaries = new COSDictionary[pages.size()];
+		this.pageNumbers = new IdentityHashMap<>(pages.size());
+		for (int index = 0; index < pages.size(); ++index) {
+			COSDictionary page = pages.get(index).getCOSObject();
+			this.pageDictionaries[index] = page;
+			// first occurrence wins, as in PDPageTree.indexOf
+			if (!this.pageNumbers.containsKey(page)) {
+				this.pageNumbers.put(page, Integer.valueOf(index));
+			}
+		}
+		this.pages = Collections.unmodifiableList(pages);
+	}
+
+	/**
+	 * Obtains page index of the given document, index is built on the first call
+	 *
+	 * @param document document to get page index for
+	 * @return page index of the document
+	 */
+	public static PageIndex of(PDDocument document) {
+		ValidationContext context = ValidationContext.of(document);
+		PageIndex index = context.getPageIndex();
+		if (index == null) {
+			index = new PageIndex(document.getPages());
+			context.setPageIndex(index);
+		}
+		return index;
+	}
+
+	/**
+	 * @param page page dictionary
+	 * @return zero based number of the page or -1 if the page does not
+	 *         belong to the page tree of the document
+	 */
+	public int getPageNumber(COSDictionary page) {
+		Integer number = this.pageNumbers.get(page);
+		return number == null ? -1 : number.intValue();
+	}
+
+	/**
+	 * @param page page
+	 * @return zero based number of the page or -1 if the page does not
+	 *         belong to the page tree of the document
+	 */
+	public int getPageNumber(PDPage page) {
+		return page == null ? -1 : getPageNumber(page.getCOSObject());
+	}
+
+	/**
+	 * @param pageNumber zero based number of the page
+	 * @return page with the given number
+	 */
+	public PDPage getPage(int pageNumber) {
+		return this.pages.get(pageNumber);
+	}
+
+	/**
+	 * @param pageNumber zero based number of the page
+	 * @return dictionary of the page with the given number
+	 */
+	public COSDictionary getPageDictionary(int pageNumber) {
+		return this.pageDictionaries[pageNumber];
+	}
+
+	/**
+	 * @return all pages of the document in the page tree order
+	 */
+	public List<PDPage> getPages() {
+		return this.pages;
+	}
+
+	/**
+	 * @return number of pages in the document
+	 */
+	public int size() {
+		return this.pageDictionaries.length;
+	}
+}
@@ -0,0 +1,174 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSNumber;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
+import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureTreeRoot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattened ParentTree of the document structure tree. The number tree is
+ * traversed once, on the first lookup, after that looking up the structure
+ * parent of an annotation, XObject or marked content sequence takes
+ * constant time.
+ */
+public final class ParentTreeIndex {
+
+	private static final ParentTreeIndex EMPTY = new ParentTreeIndex(null);
+
+	// dense keys are stored in array, sparse ones in map
+	private static final int MAX_SPARSE_FACTOR = 4;
+
+	private final COSBase[] denseValues;
+	private final Map<Integer, COSBase> sparseValues;
+
+	ParentTreeIndex(COSDictionary parentTree) {
+		Map<Integer, COSBase> values = new HashMap<>();
+		if (parentTree != null) {
+			collect(parentTree, values, Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>()));
+		}
+		int maxKey = -1;
+		for (Integer key : values.keySet()) {
+			maxKey = Math.max(maxKey, key.intValue());
+		}
+		if (maxKey < MAX_SPARSE_FACTOR * values.size() + 16) {
+			this.denseValues = new COSBase[maxKey + 1];
+			for (Map.Entry<Integer, COSBase> entry : values.entrySet()) {
+				this.denseValues[entry.getKey().intValue()] = entry.getValue();
+			}
+			this.sparseValues = Collections.emptyMap();
+		} else {
+			this.denseValues = new COSBase[0];
+			this.sparseValues = values;
+		}
+	}
+
+	/**
+	 * Obtains parent tree index of the given document, index is built on the
+	 * first call
+	 *
+	 * @param document document to get parent tree index for
+	 * @return parent tree index of the document, empty if the document has
+	 *         no structure tree
+	 */
+	public static ParentTreeIndex of(PDDocument document) {
+		if (document == null) {
+			return EMPTY;
+		}
+		ValidationContext context = ValidationContext.of(document);
+		ParentTreeIndex index = context.getParentTreeIndex();
+		if (index == null) {
+			index = new ParentTreeIndex(getParentTree(document));
+			context.setParentTreeIndex(index);
+		}
+		return index;
+	}
+
+	/**
+	 * @param key value of StructParent or StructParents entry
+	 * @return ParentTree value for the given key with indirect references
+	 *         resolved or null if there is no such key
+	 */
+	public COSBase getValue(int key) {
+		if (key < 0) {
+			return null;
+		}
+		if (key < this.denseValues.length) {
+			return this.denseValues[key];
+		}
+		return this.sparseValues.get(Integer.valueOf(key));
+	}
+
+	/**
+	 * @param structParent value of StructParent entry of annotation or XObject
+	 * @return parent structure element or null if there is no such element
+	 */
+	public COSDictionary getStructElement(int structParent) {
+		COSBase value = getValue(structParent);
+		return value instanceof COSDictionary ? (COSDictionary) value : null;
+	}
+
+	private static COSDictionary getParentTree(PDDocument document) {
+		PDDocumentCatalog catalog = document.getDocumentCatalog();
+		PDStructureTreeRoot structTreeRoot = catalog == null ? null : catalog.getStructureTreeRoot();
+		if (structTreeRoot == null) {
+			return null;
+		}
+		COSBase parentTree = structTreeRoot.getCOSObject().getDictionaryObject(COSName.PARENT_TREE);
+		return parentTree instanceof COSDictionary ? (COSDictionary) parentTree : null;
+	}
+
+	private static void collect(COSDictionary node, Map<Integer, COSBase> values, Set<COSBase> visitedNodes) {
+		if (!visitedNodes.add(node)) {
+			return;
+		}
+		COSBase nums = node.getDictionaryObject(COSName.NUMS);
+		if (nums instanceof COSArray) {
+			COSArray array = (COSArray) nums;
+			for (int i = 0; i + 1 < array.size(); i += 2) {
+				COSBase key = dereference(array.get(i));
+				// negative keys and keys out of int range can not be referred
+				// by StructParent(s) entries, so they are dropped
+				if (key instanceof COSInteger && isValidKey(((COSNumber) key).longValue())) {
+					Integer number = Integer.valueOf(((COSNumber) key).intValue());
+					// first occurrence wins, as in the tree walk by limits
+					if (!values.containsKey(number)) {
+						values.put(number, dereference(array.get(i + 1)));
+					}
+				}
+			}
+		}
+		COSBase kids = node.getDictionaryObject(COSName.KIDS);
+		if (kids instanceof COSArray) {
+			for (COSBase kid : (COSArray) kids) {
+				COSBase kidNode = dereference(kid);
+				if (kidNode instanceof COSDictionary) {
+					collect((COSDictionary) kidNode, values, visitedNodes);
+				}
+			}
+		}
+	}
+
+	private static boolean isValidKey(long key) {
+		return key >= 0 && key <= Integer.MAX_VALUE;
+	}
+
+	private static COSBase dereference(COSBase base) {
+		COSBase result = base;
+		while (result instanceof COSObject) {
+			result = ((COSObject) result).getObject();
+		}
+		return result;
+	}
+}
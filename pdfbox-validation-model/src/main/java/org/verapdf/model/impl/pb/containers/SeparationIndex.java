@@ -0,0 +1,120 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.tools.CosFingerprint;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Alternate space and tint transform of Separation color spaces of the
+ * document grouped by colorant name. Only a fingerprint of the first color
+ * space with the given colorant name is kept, every next one is compared
+ * with it once on registration, so neither Separation arrays nor model
+ * objects are retained.
+ * <p>
+ * Alternate space and tint transform are described by
+ * {@link CosFingerprint}, so indirect objects are compared by object key and
+ * direct ones by content.
+ */
+public final class SeparationIndex {
+
+	private static final int ALTERNATE_SPACE_POSITION = 2;
+	private static final int TINT_TRANSFORM_POSITION = 3;
+
+	private final Map<String, String> fingerprints = new HashMap<>();
+	private final Set<String> inconsistentNames = new HashSet<>();
+	private final CosFingerprint fingerprint = new CosFingerprint();
+
+	private SeparationIndex() {
+	}
+
+	/**
+	 * Obtains separation index of the given document, index is created on the
+	 * first call
+	 *
+	 * @param document document to get separation index for
+	 * @return separation index of the document or new unshared index if
+	 *         {@code document} is {@code null}
+	 */
+	public static SeparationIndex of(PDDocument document) {
+		if (document == null) {
+			return new SeparationIndex();
+		}
+		ValidationContext context = ValidationContext.of(document);
+		SeparationIndex index = context.getSeparationIndex();
+		if (index == null) {
+			index = new SeparationIndex();
+			context.setSeparationIndex(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Registers Separation color space. Colorant name is marked as
+	 * inconsistent if alternate space or tint transform of the given color
+	 * space differ from the ones of the first registered color space with
+	 * the same colorant name.
+	 *
+	 * @param colorantName colorant name of the color space
+	 * @param colorSpace Separation color space array
+	 */
+	public void register(String colorantName, COSArray colorSpace) {
+		if (this.inconsistentNames.contains(colorantName)) {
+			return;
+		}
+		String fingerprint = getFingerprint(colorSpace);
+		String previous = this.fingerprints.get(colorantName);
+		if (previous == null) {
+			this.fingerprints.put(colorantName, fingerprint);
+		} else if (!previous.equals(fingerprint)) {
+			this.inconsistentNames.add(colorantName);
+			this.fingerprints.remove(colorantName);
+		}
+	}
+
+	/**
+	 * @param colorantName colorant name of the color space
+	 * @return true if all registered Separation color spaces with the given
+	 *         colorant name have the same alternate space and tint transform
+	 */
+	public boolean isConsistent(String colorantName) {
+		return !this.inconsistentNames.contains(colorantName);
+	}
+
+	private String getFingerprint(COSArray colorSpace) {
+		StringBuilder builder = new StringBuilder();
+		this.fingerprint.append(builder, getElement(colorSpace, ALTERNATE_SPACE_POSITION));
+		builder.append(' ');
+		this.fingerprint.append(builder, getElement(colorSpace, TINT_TRANSFORM_POSITION));
+		return builder.toString();
+	}
+
+	private static COSBase getElement(COSArray array, int position) {
+		return array.size() > position ? array.get(position) : null;
+	}
+}
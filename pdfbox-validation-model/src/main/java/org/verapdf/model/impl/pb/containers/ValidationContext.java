@@ -0,0 +1,449 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.verapdf.features.pb.tools.ICCProfileCache;
+import org.verapdf.metadata.fixer.utils.XMPCache;
+import org.verapdf.model.impl.pb.operator.textshow.FontGlyphCache;
+import org.verapdf.model.impl.pb.pd.PBoxPDPage;
+
+import java.io.Closeable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Container for the state shared between model objects of one validated
+ * document. Context is bound to the {@link PDDocument} the model is built
+ * from, so every model object that already receives the document can reach
+ * it, and the same thread may work on several documents at once or hand a
+ * document over to another thread.
+ * <p>
+ * The owner of the document (usually {@link org.verapdf.model.ModelParser})
+ * opens the context, keeps it and must close it together with the document
+ * to release all cached model objects. Several owners of the same document
+ * share one context, which is released when the last of them closes it.
+ * Contexts are registered by weak references only: cached model objects
+ * refer to the document, so context that nobody owns any more is reclaimed
+ * together with its document. Lookup of the context does not lock, so
+ * documents validated concurrently do not contend with each other.
+ */
+public final class ValidationContext implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(ValidationContext.class);
+
+	private static final ConcurrentMap<Object, WeakReference<ValidationContext>> CONTEXTS = new ConcurrentHashMap<>();
+
+	private static final ReferenceQueue<PDDocument> COLLECTED_DOCUMENTS = new ReferenceQueue<>();
+
+	//number of owners, which opened the context and have not closed it yet,
+	//guarded by CONTEXTS lock of the document key
+	private int owners = 0;
+
+	//ModelParser, XMPChecker, PBoxPDMetadata and metadata fixer
+	private final XMPCache xmpCache = new XMPCache();
+
+	//PBoxICCProfile and feature extraction
+	private final ICCProfileCache iccProfileCache = new ICCProfileCache();
+
+	//PBoxPDSeparation
+	private SeparationIndex separationIndex;
+
+	//ColorSpaceFactory
+	private final ColorSpaceCache colorSpaceCache = new ColorSpaceCache();
+
+	//PBCosFileSpecification, collected on first request
+	private Set<COSObjectKey> fileSpecificationKeys;
+
+	//SENote
+	private final Set<String> noteIDSet = new HashSet<>();
+
+	//SEHn
+	private int lastHeadingNestingLevel = 0;
+
+	//PDXForm
+	private final Set<COSObjectKey> xFormKeysSet = new HashSet<>();
+
+	private org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace currentTransparencyColorSpace;
+
+	//PBoxPDContentStream of form XObjects, Type3 glyphs and tiling patterns
+	private final ContentStreamCache contentStreamCache = new ContentStreamCache();
+
+	//PBOpTextShow, keys are font dictionaries compared by identity
+	private final Map<COSBase, FontGlyphCache> fontGlyphCaches = new IdentityHashMap<>();
+
+	//PBoxPDCIDFont, keys are font dictionaries compared by identity. Results
+	//of PDF/A-1 check and of PDF/A-2 and later check are kept separately
+	private final Map<COSBase, Boolean> cidSetListsAllGlyphs = new IdentityHashMap<>();
+	private final Map<COSBase, Boolean> cidSetListsAllFontProgramGlyphs = new IdentityHashMap<>();
+
+	private PageIndex pageIndex;
+
+	private ParentTreeIndex parentTreeIndex;
+
+	//PBoxPDPage with parsed content, least recently parsed first
+	private int pageWindowSize = 0;
+	private final Map<PBoxPDPage, Boolean> parsedPages = new LinkedHashMap<>(16, 0.75f, true);
+
+	private ValidationContext() {
+	}
+
+	/**
+	 * Opens context for the given document. If context is already open for
+	 * the same document, it is shared instead of creating new one, so model
+	 * that is still being validated keeps its caches. Each call has to be
+	 * paired with {@link #close()}. Context stays bound to the document only
+	 * while some of its owners keeps reference to it.
+	 *
+	 * @param document document to open context for
+	 * @return context bound to {@code document}
+	 */
+	public static ValidationContext open(PDDocument document) {
+		if (document == null) {
+			throw new IllegalArgumentException("Document to open validation context for can not be null");
+		}
+		expungeCollectedDocuments();
+		DocumentKey key = new DocumentKey(document, COLLECTED_DOCUMENTS);
+		while (true) {
+			WeakReference<ValidationContext> reference = CONTEXTS.get(key);
+			ValidationContext context = reference == null ? null : reference.get();
+			if (context != null) {
+				synchronized (context) {
+					if (context.owners > 0) {
+						context.owners++;
+						return context;
+					}
+				}
+				// context is being closed by its last owner, it unbinds itself
+				CONTEXTS.remove(key, reference);
+				continue;
+			}
+			ValidationContext newContext = new ValidationContext();
+			newContext.owners = 1;
+			WeakReference<ValidationContext> newReference = new WeakReference<>(newContext);
+			boolean bound = reference == null ? CONTEXTS.putIfAbsent(key, newReference) == null
+					: CONTEXTS.replace(key, reference, newReference);
+			if (bound) {
+				return newContext;
+			}
+		}
+	}
+
+	/**
+	 * Obtains context of the given document. Objects built outside of open
+	 * context, or without document at all, get new empty context, which is
+	 * not shared with any other object.
+	 *
+	 * @param document document to get context for
+	 * @return context bound to {@code document} or new unshared context
+	 */
+	public static ValidationContext of(PDDocument document) {
+		if (document != null) {
+			WeakReference<ValidationContext> reference = CONTEXTS.get(new LookupKey(document));
+			ValidationContext context = reference == null ? null : reference.get();
+			if (context != null) {
+				return context;
+			}
+		}
+		return new ValidationContext();
+	}
+
+	private static void expungeCollectedDocuments() {
+		Reference<? extends PDDocument> collected;
+		while ((collected = COLLECTED_DOCUMENTS.poll()) != null) {
+			CONTEXTS.remove(collected);
+		}
+	}
+
+	public Set<String> getNoteIDSet() {
+		return this.noteIDSet;
+	}
+
+	public int getLastHeadingNestingLevel() {
+		return this.lastHeadingNestingLevel;
+	}
+
+	public void setLastHeadingNestingLevel(int lastHeadingNestingLevel) {
+		this.lastHeadingNestingLevel = lastHeadingNestingLevel;
+	}
+
+	SeparationIndex getSeparationIndex() {
+		return this.separationIndex;
+	}
+
+	void setSeparationIndex(SeparationIndex separationIndex) {
+		this.separationIndex = separationIndex;
+	}
+
+	public XMPCache getXMPCache() {
+		return this.xmpCache;
+	}
+
+	public ICCProfileCache getICCProfileCache() {
+		return this.iccProfileCache;
+	}
+
+	public ColorSpaceCache getColorSpaceCache() {
+		return this.colorSpaceCache;
+	}
+
+	/**
+	 * @return keys of file specifications referenced from AF entries of the
+	 *         document or {@code null} if they have not been collected yet
+	 */
+	public synchronized Set<COSObjectKey> getFileSpecificationKeys() {
+		return this.fileSpecificationKeys;
+	}
+
+	public synchronized void setFileSpecificationKeys(Set<COSObjectKey> fileSpecificationKeys) {
+		this.fileSpecificationKeys = fileSpecificationKeys;
+	}
+
+	public Set<COSObjectKey> getXFormKeysSet() {
+		return this.xFormKeysSet;
+	}
+
+	public org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace getCurrentTransparencyColorSpace() {
+		return this.currentTransparencyColorSpace;
+	}
+
+	public void setCurrentTransparencyColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace currentTransparencyColorSpace) {
+		this.currentTransparencyColorSpace = currentTransparencyColorSpace;
+	}
+
+	public ContentStreamCache getContentStreamCache() {
+		return this.contentStreamCache;
+	}
+
+	PageIndex getPageIndex() {
+		return this.pageIndex;
+	}
+
+	void setPageIndex(PageIndex pageIndex) {
+		this.pageIndex = pageIndex;
+	}
+
+	ParentTreeIndex getParentTreeIndex() {
+		return this.parentTreeIndex;
+	}
+
+	void setParentTreeIndex(ParentTreeIndex parentTreeIndex) {
+		this.parentTreeIndex = parentTreeIndex;
+	}
+
+	public int getPageWindowSize() {
+		return this.pageWindowSize;
+	}
+
+	/**
+	 * @param pageWindowSize maximal number of pages, which keep their parsed
+	 *                       content, non positive value means no limit
+	 */
+	public void setPageWindowSize(int pageWindowSize) {
+		this.pageWindowSize = pageWindowSize;
+		if (pageWindowSize <= 0) {
+			this.parsedPages.clear();
+		}
+		releaseParsedPages();
+	}
+
+	/**
+	 * Registers page, that has just parsed its content. If the number of such
+	 * pages exceeds page window size, content of the least recently parsed
+	 * pages is released.
+	 *
+	 * @param page page with parsed content
+	 */
+	public void registerParsedPage(PBoxPDPage page) {
+		if (this.pageWindowSize <= 0) {
+			return;
+		}
+		// access ordered map moves already registered page to the end
+		this.parsedPages.put(page, Boolean.TRUE);
+		releaseParsedPages();
+	}
+
+	private void releaseParsedPages() {
+		Iterator<PBoxPDPage> iterator = this.parsedPages.keySet().iterator();
+		while (this.pageWindowSize > 0 && this.parsedPages.size() > this.pageWindowSize && iterator.hasNext()) {
+			PBoxPDPage page = iterator.next();
+			iterator.remove();
+			page.releaseParsedContent();
+		}
+	}
+
+	/**
+	 * Obtains font container and glyph properties cache of the given font.
+	 * Cache is shared between all fonts with the same font dictionary.
+	 *
+	 * @param font font to get cache for
+	 * @return glyph cache of the font
+	 */
+	public FontGlyphCache getFontGlyphCache(PDFont font) {
+		FontGlyphCache cache = this.fontGlyphCaches.get(font.getCOSObject());
+		if (cache == null) {
+			cache = new FontGlyphCache(font);
+			this.fontGlyphCaches.put(font.getCOSObject(), cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * @param fontDictionary      font dictionary the result is bound to
+	 * @param checksFontGlyphs    true if the result also requires all glyphs
+	 *                            of the font program to be listed in CIDSet
+	 * @return cached result of CIDSet check or {@code null} if the font was
+	 *         not checked yet
+	 */
+	public Boolean getCIDSetListsAllGlyphs(COSBase fontDictionary, boolean checksFontGlyphs) {
+		return getCIDSetResults(checksFontGlyphs).get(fontDictionary);
+	}
+
+	public void setCIDSetListsAllGlyphs(COSBase fontDictionary, boolean checksFontGlyphs, Boolean listsAllGlyphs) {
+		getCIDSetResults(checksFontGlyphs).put(fontDictionary, listsAllGlyphs);
+	}
+
+	private Map<COSBase, Boolean> getCIDSetResults(boolean checksFontGlyphs) {
+		return checksFontGlyphs ? this.cidSetListsAllFontProgramGlyphs : this.cidSetListsAllGlyphs;
+	}
+
+	/**
+	 * Releases ownership of the context. When the last owner closes it, all
+	 * cached objects are released and context is unbound from its document.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (this.owners > 1) {
+				this.owners--;
+				return;
+			}
+			this.owners = 0;
+		}
+		CONTEXTS.values().removeIf(reference -> {
+			ValidationContext context = reference.get();
+			return context == null || context == this;
+		});
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Content stream cache: " + this.contentStreamCache.getHits() + " hits, "
+					+ this.contentStreamCache.getMisses() + " misses, "
+					+ this.contentStreamCache.getEvictions() + " evictions, hit rate "
+					+ this.contentStreamCache.getHitRate());
+			LOGGER.debug("Color space cache: " + this.colorSpaceCache.getHits() + " hits, "
+					+ this.colorSpaceCache.getMisses() + " misses, hit rate "
+					+ this.colorSpaceCache.getHitRate());
+			LOGGER.debug("ICC profile cache: " + this.iccProfileCache.getHits() + " hits, "
+					+ this.iccProfileCache.getMisses() + " misses, hit rate "
+					+ this.iccProfileCache.getHitRate());
+		}
+		clear();
+	}
+
+	private void clear() {
+		this.xmpCache.clear();
+		this.iccProfileCache.clear();
+		this.separationIndex = null;
+		this.colorSpaceCache.clear();
+		this.fileSpecificationKeys = null;
+		this.noteIDSet.clear();
+		this.xFormKeysSet.clear();
+		this.lastHeadingNestingLevel = 0;
+		this.currentTransparencyColorSpace = null;
+		this.contentStreamCache.clear();
+		this.fontGlyphCaches.clear();
+		this.cidSetListsAllGlyphs.clear();
+		this.cidSetListsAllFontProgramGlyphs.clear();
+		this.pageIndex = null;
+		this.parentTreeIndex = null;
+		this.parsedPages.clear();
+	}
+
+	/**
+	 * Registry key, which refers to the document weakly and compares it by
+	 * identity.
+	 */
+	private static final class DocumentKey extends WeakReference<PDDocument> {
+
+		private final int hash;
+
+		DocumentKey(PDDocument document, ReferenceQueue<PDDocument> queue) {
+			super(document, queue);
+			this.hash = System.identityHashCode(document);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			PDDocument document = get();
+			if (document == null) {
+				return false;
+			}
+			if (obj instanceof DocumentKey) {
+				return document == ((DocumentKey) obj).get();
+			}
+			return obj instanceof LookupKey && document == ((LookupKey) obj).document;
+		}
+	}
+
+	/**
+	 * Short living key used to look up context without registering the
+	 * document.
+	 */
+	private static final class LookupKey {
+
+		private final PDDocument document;
+
+		LookupKey(PDDocument document) {
+			this.document = document;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this.document);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof DocumentKey) {
+				return this.document == ((DocumentKey) obj).get();
+			}
+			return obj instanceof LookupKey && this.document == ((LookupKey) obj).document;
+		}
+	}
+}
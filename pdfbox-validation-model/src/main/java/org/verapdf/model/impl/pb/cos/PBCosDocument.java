@@ -26,13 +26,14 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDEmbeddedFilesNameTreeNode;
 import org.apache.pdfbox.pdmodel.common.PDNameTreeNode;
 import org.apache.pdfbox.pdmodel.common.filespecification.PDComplexFileSpecification;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDocument;
 import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
 import org.verapdf.model.coslayer.CosXRef;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDDocument;
-import org.verapdf.model.tools.FileSpecificationKeysHelper;
 import org.verapdf.model.tools.XMPChecker;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -65,6 +66,9 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 
 	private PDDocument pdDocument;
 
+	// keeps context of the document bound while the model is in use
+	private ValidationContext context;
+
 	private final long indirectObjectCount;
 	private final float headerVersion;
 	private final long headerOffset;
@@ -84,17 +88,29 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	private final COSDictionary catalog;
 
 	/**
-	 * Default constructor
+	 * Default constructor. New validation context is opened for the
+	 * document and is kept by this object.
 	 * 
 	 * @param pdDocument
 	 *            pdfbox PDDocument
 	 */
 	public PBCosDocument(PDDocument pdDocument, PDFAFlavour flavour) {
-		this(pdDocument.getDocument(), flavour);
+		this(pdDocument, flavour, ValidationContext.open(pdDocument));
+	}
+
+	/**
+	 * Constructor using validation context opened by the owner of the
+	 * document
+	 *
+	 * @param pdDocument
+	 *            pdfbox PDDocument
+	 * @param context
+	 *            context opened for {@code pdDocument}
+	 */
+	public PBCosDocument(PDDocument pdDocument, PDFAFlavour flavour, ValidationContext context) {
+		this(pdDocument.getDocument(), flavour, context.getXMPCache());
 		this.pdDocument = pdDocument;
-		if (flavour.getPart() == PDFAFlavour.Specification.ISO_19005_3) {
-			FileSpecificationKeysHelper.registerFileSpecificationKeys(pdDocument);
-		}
+		this.context = context;
 	}
 
 	/**
@@ -104,6 +120,10 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	 *            pdfbox COSDocument
 	 */
 	public PBCosDocument(COSDocument cosDocument, PDFAFlavour flavour) {
+		this(cosDocument, flavour, new XMPCache());
+	}
+
+	private PBCosDocument(COSDocument cosDocument, PDFAFlavour flavour, XMPCache xmpCache) {
 		super(cosDocument, COS_DOCUMENT_TYPE);
 		this.catalog = this.getCatalog();
 		this.flavour = flavour;
@@ -131,7 +151,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 			this.firstPageID = null;
 		}
 		this.isLinearised = cosDocument.getTrailer() != cosDocument.getLastTrailer() && cosDocument.isLinearized();
-		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(cosDocument);
+		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(cosDocument, xmpCache);
 		this.needsRendering = this.getNeedsRenderingValue();
 	}
 
@@ -28,8 +28,8 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosFileSpecification;
 import org.verapdf.model.external.EmbeddedFile;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
 import org.verapdf.model.impl.pb.external.PBoxEmbeddedFile;
+import org.verapdf.model.tools.FileSpecificationKeysHelper;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.util.ArrayList;
@@ -82,8 +82,12 @@ public class PBCosFileSpecification extends PBCosDict implements CosFileSpecific
 
 	@Override
 	public Boolean getisAssociatedFile() {
-		return Boolean.valueOf(this.baseObject != null
-				&& StaticContainers.getFileSpecificationKeys().contains(this.baseObject.getKey()));
+		if (this.baseObject == null || this.flavour == null
+				|| this.flavour.getPart() != PDFAFlavour.Specification.ISO_19005_3) {
+			return Boolean.FALSE;
+		}
+		return Boolean.valueOf(FileSpecificationKeysHelper.getFileSpecificationKeys(this.document)
+				.contains(this.baseObject.getKey()));
 	}
 
 	@Override
@@ -47,7 +47,7 @@ public class PBCosIndirect extends PBCosObject implements CosIndirect {
 
     private final boolean isSpacingPDFACompliant;
 
-    private final String id;
+    private String id;
 
     private final PDDocument document;
     private final PDFAFlavour flavour;
@@ -59,14 +59,16 @@ public class PBCosIndirect extends PBCosObject implements CosIndirect {
     public PBCosIndirect(COSObject indirectObject, PDDocument document, PDFAFlavour flavour) {
         super(indirectObject, COS_INDIRECT_TYPE);
         this.isSpacingPDFACompliant = getspacingCompliesPDFA(indirectObject);
-		this.id = IDGenerator.generateID(indirectObject);
         this.document = document;
         this.flavour = flavour;
     }
 
 	@Override
 	public String getID() {
-		return id;
+		if (this.id == null) {
+			this.id = IDGenerator.generateID(this.baseObject);
+		}
+		return this.id;
 	}
 
     @Override
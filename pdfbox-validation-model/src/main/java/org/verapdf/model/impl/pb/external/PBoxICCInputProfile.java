@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.external;
 
 import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.model.external.ICCInputProfile;
 
 import java.io.IOException;
@@ -45,4 +46,12 @@ public class PBoxICCInputProfile extends PBoxICCProfile implements
     public PBoxICCInputProfile(COSStream profile) {
         super(profile, ICC_INPUT_PROFILE_TYPE);
     }
+
+	/**
+	 * @param profile stream of profile
+	 * @param cache cache of read profiles of the document
+	 */
+    public PBoxICCInputProfile(COSStream profile, ICCProfileCache cache) {
+        super(profile, ICC_INPUT_PROFILE_TYPE, cache);
+    }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.external;
 
 import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.model.external.ICCOutputProfile;
 
 import java.io.IOException;
@@ -51,6 +52,16 @@ public class PBoxICCOutputProfile extends PBoxICCProfile implements
         this.subtype = subtype;
     }
 
+	/**
+	 * @param profile icc profile stream
+	 * @param subtype subtype value for current profile
+	 * @param cache cache of read profiles of the document
+	 */
+    public PBoxICCOutputProfile(COSStream profile, String subtype, ICCProfileCache cache) {
+        super(profile, ICC_OUTPUT_PROFILE_TYPE, cache);
+        this.subtype = subtype;
+    }
+
     /**
      * @return subtype of output intent, which use current ICC profile
      */
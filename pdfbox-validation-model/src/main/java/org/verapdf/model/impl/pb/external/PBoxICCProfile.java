@@ -23,10 +23,11 @@ package org.verapdf.model.impl.pb.external;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.features.pb.tools.ICCProfileCache;
+import org.verapdf.features.pb.tools.ICCProfileReader;
 import org.verapdf.model.external.ICCProfile;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * Embedded ICC profile
@@ -53,23 +54,27 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
     public static final int SUBVERSION_BYTE = 9;
 
     private byte[] profileHeader;
-    private InputStream profileStream;
     private Long dictionaryNumberOfColors;
     private boolean isValid = true;
 
     protected PBoxICCProfile(COSStream profileStream,
 							 String type) {
+        this(profileStream, type, new ICCProfileCache());
+    }
+
+    protected PBoxICCProfile(COSStream profileStream, String type, ICCProfileCache cache) {
         super(type);
 
+        this.dictionaryNumberOfColors = profileStream.getLong(COSName.N);
+        if (this.dictionaryNumberOfColors == -1) {
+            this.dictionaryNumberOfColors = null;
+        }
         try {
-            this.profileStream = profileStream.getUnfilteredStream();
-            this.dictionaryNumberOfColors = profileStream.getLong(COSName.N);
-            if (this.dictionaryNumberOfColors == -1) {
-                this.dictionaryNumberOfColors = null;
-            }
-
-            initializeProfileHeader();
+            ICCProfileReader reader = cache.get(profileStream);
+            this.profileHeader = reader.getHeader();
+            this.isValid = reader.isHeaderComplete();
         } catch (IOException e) {
+            LOGGER.debug("Can not read icc profile header", e);
             this.isValid = false;
             if (this.profileHeader == null) {
                 this.profileHeader = new byte[0];
@@ -77,21 +82,6 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
         }
     }
 
-    private void initializeProfileHeader() throws IOException {
-        int available = this.profileStream.available();
-        int size = available > HEADER_LENGTH ? HEADER_LENGTH : available;
-        if (size != HEADER_LENGTH) {
-            this.isValid = false;
-        }
-
-        this.profileHeader = new byte[size];
-        this.profileStream.mark(size);
-        this.profileStream.read(this.profileHeader, 0, size);
-        this.profileStream.reset();
-		// TODO : finalize it correct, when object will destroy
-		this.profileStream.close();
-    }
-
     /**
      * @return string representation of device class or null, if profile length
      *         is too small
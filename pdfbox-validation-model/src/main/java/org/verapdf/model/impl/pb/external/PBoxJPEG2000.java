@@ -56,10 +56,11 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	protected static final PDColorSpace DEFAULT_COLOR_SPACE = null;
 	private static final byte[] sign = { 0x00, 0x00, 0x00, 0x0C, 0x6A, 0x50, 0x20, 0x20, 0x0D, 0x0A, -0x79, 0x0A };
 
-	private static final byte[] header = { 0x6A, 0x70, 0x32, 0x68 };
-	private static final byte[] ihdr = { 0x69, 0x68, 0x64, 0x72 };
-	private static final byte[] bpcc = { 0x62, 0x70, 0x63, 0x63 };
-	private static final byte[] colr = { 0x63, 0x6F, 0x6C, 0x72 };
+	// box types as big endian integers
+	private static final int HEADER = 0x6A703268;
+	private static final int IHDR = 0x69686472;
+	private static final int BPCC = 0x62706363;
+	private static final int COLR = 0x636F6C72;
 
 	private final Long nrColorChannels;
 	private final Long nrColorSpaceSpecs;
@@ -93,19 +94,19 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	 */
 	public static PBoxJPEG2000 fromStream(InputStream stream, PDDocument document, PDFAFlavour flavour) {
 		Builder builder = new Builder();
+		BoxReader reader = new BoxReader(stream);
 
-		byte[] signArray = new byte[12];
 		try {
 			// Check if the stream starts with valid jp2 signature
-			if (stream.read(signArray) != 12 || !isValidSignature(signArray)) {
+			if (!reader.read(sign.length) || !reader.matches(sign)) {
 				LOGGER.debug("File contains wrong signature");
 				return builder.build();
 			}
 			// Finding the beginning of the header box content
-			long headerLeft = findHeader(stream);
+			long headerLeft = findHeader(reader);
 
 			if (headerLeft >= 0) {
-				parseHeader(stream, headerLeft, builder, document, flavour);
+				parseHeader(reader, headerLeft, builder, document, flavour);
 			}
 
 		} catch (IOException e) {
@@ -114,7 +115,7 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		return builder.build();
 	}
 
-	private static void parseHeader(final InputStream stream, final long headerLeft, final Builder builder,
+	private static void parseHeader(final BoxReader reader, final long headerLeft, final Builder builder,
 			PDDocument document, PDFAFlavour flavour) throws IOException {
 		long leftInHeader = headerLeft;
 		boolean isHeaderReachEnd = leftInHeader == 0;
@@ -128,52 +129,35 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace firstColorSpace = null;
 		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace = null;
 
-		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
-				break;
-			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					break;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
+		while (reader.nextBox()) {
+			long length = reader.boxLength;
 			if (length < 0 || (!isHeaderReachEnd && (length == 0 || length > leftInHeader))) {
 				break;
 			}
-			long leftInBox = length - skipped;
+			long leftInBox = length - reader.boxHeaderLength;
 
-			if (matches(tbox, ihdr)) {
+			if (reader.boxType == IHDR) {
 				if (leftInBox != 14 && length != 0) {
 					LOGGER.debug("Image header content does not contain 14 bytes");
 					break;
 				}
-				skipBytes(stream, 8);
-				byte[] nc = new byte[2];
-				if (stream.read(nc) != 2) {
+				reader.skip(8);
+				if (!reader.read(2)) {
 					LOGGER.debug("Can not read number of components");
 					break;
 				}
-				long ncColorChannels = convertArrayToLong(nc);
-				builder.setNrColorChannels(Long.valueOf(ncColorChannels));
-				byte[] bpc = new byte[1];
-				if (stream.read(bpc) != 1) {
+				builder.setNrColorChannels(Long.valueOf(reader.toLong(2)));
+				if (!reader.read(1)) {
 					LOGGER.debug("Can not read bitDepth");
 					break;
 				}
-				long bitDepth = bpc[0] + 1;
+				long bitDepth = reader.buffer[0] + 1;
 				builder.setBitDepth(Long.valueOf(bitDepth));
-				skipBytes(stream, 3);
-			} else if (matches(tbox, bpcc)) {
+				reader.skip(3);
+			} else if (reader.boxType == BPCC) {
 				builder.setBpccBoxPresent(Boolean.TRUE);
-				skipBytes(stream, leftInBox);
-			} else if (matches(tbox, colr)) {
+				reader.skip(leftInBox);
+			} else if (reader.boxType == COLR) {
 				if (leftInBox < 3) {
 					LOGGER.debug("Founded 'colr' box with length less than 3");
 					break;
@@ -183,22 +167,15 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 				} else {
 					++nrColorSpaceSpecs;
 				}
-				byte[] meth = new byte[1];
-				if (stream.read(meth) != 1) {
-					LOGGER.debug("Can not read METH");
+				if (!reader.read(3)) {
+					LOGGER.debug("Can not read METH and APPROX");
 					break;
 				}
-				long methValue = convertArrayToLong(meth);
+				long methValue = reader.buffer[0] & 0xFF;
+				long approxValue = reader.buffer[2] & 0xFF;
 				if (firstColrMethod == null) {
 					firstColrMethod = Long.valueOf(methValue);
 				}
-				skipBytes(stream, 1);
-				byte[] approx = new byte[1];
-				if (stream.read(approx) != 1) {
-					LOGGER.debug("Can not read APPROX");
-					break;
-				}
-				long approxValue = convertArrayToLong(approx);
 				if (approxValue == 1) {
 					if (nrColorSpacesWithApproxField == null) {
 						nrColorSpacesWithApproxField = Long.valueOf(1L);
@@ -215,13 +192,12 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 						LOGGER.debug("Founded 'colr' box with meth value 1 and length less than 7");
 						break;
 					}
-					byte[] enumCS = new byte[4];
-					if (stream.read(enumCS) != 4) {
+					if (!reader.read(4)) {
 						LOGGER.debug("Can not read EnumCS");
 						break;
 					}
 					read += 4;
-					long enumCSValue = convertArrayToLong(enumCS);
+					long enumCSValue = reader.toLong(4);
 					if (firstColrEnumCS == null) {
 						firstColrEnumCS = Long.valueOf(enumCSValue);
 						firstColorSpace = createColorSpaceFromEnumValue(firstColrEnumCS.longValue(), document);
@@ -232,24 +208,30 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 						colorSpace = createColorSpaceFromEnumValue(colrEnumCS.longValue(), document);
 					}
 				} else if (methValue == 2) {
-					int profileLength = (int) (leftInBox - read);
-					byte[] profile = new byte[profileLength];
-					if (stream.read(profile) != profileLength) {
-						LOGGER.debug("Can not read Profile");
-						break;
+					long profileLength = leftInBox - read;
+					boolean isProfileNeeded = doesFirstContainsColorSpace == null
+							|| (approxValue == 1 && colorSpace == null);
+					if (isProfileNeeded && profileLength <= Integer.MAX_VALUE) {
+						byte[] profile = new byte[(int) profileLength];
+						if (!reader.read(profile)) {
+							LOGGER.debug("Can not read Profile");
+							break;
+						}
+						if (doesFirstContainsColorSpace == null) {
+							firstColorSpace = createColorSpaceFromProfile(profile, document);
+							doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
+						}
+						if (approxValue == 1 && colorSpace == null) {
+							colorSpace = createColorSpaceFromProfile(profile, document);
+						}
+					} else {
+						reader.skip(profileLength);
 					}
 					read += profileLength;
-					if (doesFirstContainsColorSpace == null) {
-						firstColorSpace = createColorSpaceFromProfile(profile, document);
-						doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
-					}
-					if (approxValue == 1 && colorSpace == null) {
-						colorSpace = createColorSpaceFromProfile(profile, document);
-					}
 				}
-				skipBytes(stream, leftInBox - read);
+				reader.skip(leftInBox - read);
 			} else {
-				skipBytes(stream, leftInBox);
+				reader.skip(leftInBox);
 			}
 
 			leftInHeader -= length;
@@ -394,32 +376,18 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	/**
 	 * Finds the beginning of the header box content and returns its left length
 	 *
-	 * @param stream
-	 *            image stream
+	 * @param reader
+	 *            image stream reader
 	 * @return left length of the header box or -1 if it has not been found and
 	 *         0 if it ends at the end of the stream
 	 * @throws IOException
 	 */
-	private static long findHeader(InputStream stream) throws IOException {
-		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
-				return -1L;
-			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					return -1L;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
-			long left = length - skipped;
+	private static long findHeader(BoxReader reader) throws IOException {
+		while (reader.nextBox()) {
+			long length = reader.boxLength;
+			long left = length - reader.boxHeaderLength;
 			// Check is current box a header
-			if (matches(tbox, header)) {
+			if (reader.boxType == HEADER) {
 				if (length == 0) {
 					return 0;
 				}
@@ -427,44 +395,10 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			} else if (length == 0 || left < 0) {
 				return -1L;
 			} else {
-				skipBytes(stream, left);
+				reader.skip(left);
 			}
 		}
-	}
-
-	private static void skipBytes(InputStream stream, long skipNumber) throws IOException {
-		long skippedBytes = stream.skip(skipNumber);
-		if (skippedBytes != skipNumber && stream.available() != 0) {
-			throw new IllegalStateException("Skipped less bytes that needed.");
-		}
-	}
-
-	private static long convertArrayToLong(byte[] toConvert) {
-		if (toConvert.length < 1 || toConvert.length > 8) {
-			throw new IllegalArgumentException("Length of the converting byte array can not be greater than 8");
-		}
-		long res = 0;
-		for (byte aToConvert : toConvert) {
-			res <<= 8;
-			res += aToConvert & 0xff;
-		}
-		return res;
-	}
-
-	private static boolean isValidSignature(byte[] signature) {
-		return matches(signature, sign);
-	}
-
-	private static boolean matches(byte[] source, byte[] match) {
-		if (match.length != source.length) {
-			return false;
-		}
-		for (int i = 0; i < match.length; ++i) {
-			if (source[i] != match[i]) {
-				return false;
-			}
-		}
-		return true;
+		return -1L;
 	}
 
 	public PDColorSpace getImageColorSpace() {
@@ -511,6 +445,101 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		return false;
 	}
 
+	/**
+	 * Sequential reader of box headers and fields, which reuses single
+	 * buffer for all reads
+	 */
+	private static final class BoxReader {
+		private final InputStream stream;
+		private final byte[] buffer = new byte[16];
+		private long boxLength;
+		private int boxHeaderLength;
+		private int boxType;
+
+		private BoxReader(InputStream stream) {
+			this.stream = stream;
+		}
+
+		/**
+		 * Reads LBox, TBox and optional XLBox of the next box
+		 *
+		 * @return false if the end of stream has been reached
+		 */
+		private boolean nextBox() throws IOException {
+			if (!read(8)) {
+				return false;
+			}
+			this.boxLength = toLong(0, 4);
+			this.boxType = (int) toLong(4, 4);
+			this.boxHeaderLength = 8;
+			if (this.boxLength == 1) {
+				if (!read(8)) {
+					return false;
+				}
+				this.boxLength = toLong(0, 8);
+				this.boxHeaderLength = 16;
+			}
+			return true;
+		}
+
+		private boolean read(int length) throws IOException {
+			return readFully(this.buffer, length);
+		}
+
+		private boolean read(byte[] target) throws IOException {
+			return readFully(target, target.length);
+		}
+
+		private boolean readFully(byte[] target, int length) throws IOException {
+			int total = 0;
+			while (total < length) {
+				int read = this.stream.read(target, total, length - total);
+				if (read < 0) {
+					return false;
+				}
+				total += read;
+			}
+			return true;
+		}
+
+		private void skip(long length) throws IOException {
+			long left = length;
+			while (left > 0) {
+				long skipped = this.stream.skip(left);
+				if (skipped <= 0) {
+					// skip may return 0 before the end of stream
+					if (this.stream.read() < 0) {
+						return;
+					}
+					skipped = 1;
+				}
+				left -= skipped;
+			}
+		}
+
+		private long toLong(int length) {
+			return toLong(0, length);
+		}
+
+		private long toLong(int offset, int length) {
+			long res = 0;
+			for (int i = offset; i < offset + length; ++i) {
+				res <<= 8;
+				res += this.buffer[i] & 0xff;
+			}
+			return res;
+		}
+
+		private boolean matches(byte[] match) {
+			for (int i = 0; i < match.length; ++i) {
+				if (this.buffer[i] != match[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	private static class Builder {
 		private Long nrColorChannels = DEFAULT_NR_COLOR_CHANNELS;
 		private Long nrColorSpaceSpecs = DEFAULT_NR_COLOR_SPACE_SPECS;
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.operator.inlineimage;
 
 import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
@@ -50,7 +51,7 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 	public static final String INLINE_IMAGE = "inlineImage";
 
 	private final byte[] imageData;
-	private final PDResources resources;
+	private final PDInheritableResources resources;
 
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
@@ -59,7 +60,7 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 				   PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
 		super(arguments, OP_EI_TYPE);
 		this.imageData = imageData;
-		this.resources = PBOp_EI.getResources(resources);
+		this.resources = resources;
 		this.document = document;
 		this.flavour = flavour;
 	}
@@ -75,12 +76,13 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 
 	private List<PDInlineImage> getInlineImage() {
 		try {
-			COSBase parameters = this.arguments.get(0);
+			COSDictionary parameters = (COSDictionary) this.arguments.get(0);
+			PDResources imageResources = this.resources.getInlineImageResources(getColorSpaceName(parameters));
 			org.apache.pdfbox.pdmodel.graphics.image.PDInlineImage inlineImage =
 					new org.apache.pdfbox.pdmodel.graphics.image.PDInlineImage(
-							(COSDictionary) parameters,
+							parameters,
 							this.imageData,
-							this.resources);
+							imageResources);
 
 			List<PDInlineImage> inlineImages = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			inlineImages.add(new PBoxPDInlineImage(inlineImage, this.document, this.flavour));
@@ -91,20 +93,16 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 		return Collections.emptyList();
 	}
 
-	private static PDResources getResources(PDInheritableResources resources) {
-		PDResources currRes = resources.getCurrentResources();
-		COSDictionary dictionary = resources.getInheritedResources().getCOSObject();
-		PDResources pageRes = new PDResources(new COSDictionary(dictionary));
-
-		for (COSName name : currRes.getColorSpaceNames()) {
-			try {
-				pageRes.put(name, currRes.getColorSpace(name));
-			} catch (IOException e) {
-				LOGGER.debug("Problem with color space coping.", e);
-			}
+	/**
+	 * @return name of the color space resource used by inline image directly
+	 *         or as base of indexed color space, {@code null} if there is none
+	 */
+	private static COSName getColorSpaceName(COSDictionary parameters) {
+		COSBase colorSpace = parameters.getDictionaryObject(COSName.CS, COSName.COLORSPACE);
+		if (colorSpace instanceof COSArray && ((COSArray) colorSpace).size() > 1) {
+			colorSpace = ((COSArray) colorSpace).getObject(1);
 		}
-
-		return pageRes;
+		return colorSpace instanceof COSName ? (COSName) colorSpace : null;
 	}
 
 }
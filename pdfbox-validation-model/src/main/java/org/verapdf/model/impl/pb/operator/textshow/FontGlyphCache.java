@@ -0,0 +1,88 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.operator.textshow;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDFontLike;
+import org.apache.pdfbox.preflight.font.container.FontContainer;
+import org.verapdf.model.tools.FontHelper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Preflight font container and computed glyph properties of one font.
+ * Instances are obtained from {@link org.verapdf.model.impl.pb.containers.ValidationContext}
+ * and shared by all text show operators using the same font dictionary.
+ */
+public final class FontGlyphCache {
+
+	private final PDFont font;
+	private final FontContainer<? extends PDFontLike> fontContainer;
+	private final boolean fontProgramIsInvalid;
+	private final Map<Integer, GlyphData> glyphs = new HashMap<>();
+
+	public FontGlyphCache(PDFont font) {
+		this.font = font;
+		this.fontContainer = FontHelper.getFontContainer(font);
+		this.fontProgramIsInvalid = font == null || font.isDamaged() || PBOpTextShow.fontProgramIsNull(font);
+	}
+
+	/**
+	 * @return font which properties are cached
+	 */
+	public PDFont getFont() {
+		return this.font;
+	}
+
+	/**
+	 * @return preflight font container or {@code null} if the font type is not supported
+	 */
+	public FontContainer<? extends PDFontLike> getFontContainer() {
+		return this.fontContainer;
+	}
+
+	/**
+	 * Obtains properties of the glyph with the given code, properties are
+	 * computed on the first request only
+	 *
+	 * @param code character code
+	 * @return glyph properties
+	 * @throws IOException if the font program can not be read
+	 */
+	public GlyphData getGlyph(int code) throws IOException {
+		Integer key = Integer.valueOf(code);
+		GlyphData glyph = this.glyphs.get(key);
+		if (glyph == null) {
+			Boolean glyphPresent = null;
+			if (!this.fontProgramIsInvalid) {
+				// every font contains notdef glyph. But if we call method
+				// of font container we can't distinguish case of code 0
+				// and glyph that is not present indeed.
+				glyphPresent = code == 0 || this.fontContainer.hasGlyph(code);
+			}
+			glyph = new GlyphData(glyphPresent, this.font, code);
+			this.glyphs.put(key, glyph);
+		}
+		return glyph;
+	}
+}
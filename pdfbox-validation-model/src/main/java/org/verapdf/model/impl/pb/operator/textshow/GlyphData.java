@@ -0,0 +1,153 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.operator.textshow;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
+import org.verapdf.model.tools.IDGenerator;
+
+import java.io.IOException;
+
+/**
+ * Font dependent properties of a single glyph. Values depend only on the font
+ * and the character code, so one instance is shared by all {@link PBGlyph}
+ * objects representing occurrences of the same code of the same font.
+ */
+public final class GlyphData {
+
+	private static final Logger LOGGER = Logger.getLogger(GlyphData.class);
+
+	// rendering modes defined for Tr operator
+	private static final int RENDERING_MODES_NUMBER = 8;
+
+	private final Boolean glyphPresent;
+	private final int cid;
+	private final float widthFromDictionary;
+	private final float widthFromFontProgram;
+	private final String name;
+	private final String toUnicode;
+	// IDs of the glyph for each rendering mode, created on demand
+	private String[] ids;
+
+	/**
+	 * Computes glyph properties for the given code
+	 *
+	 * @param glyphPresent value of glyph presence in the font program,
+	 *                     {@code null} if the font program is invalid
+	 * @param font         font of the glyph
+	 * @param glyphCode    character code of the glyph
+	 */
+	public GlyphData(Boolean glyphPresent, PDFont font, int glyphCode) {
+		this.glyphPresent = glyphPresent;
+		float widthFromDictionary = 0;
+		float widthFromFontProgram = 0;
+		try {
+			widthFromDictionary = font.getWidth(glyphCode);
+			widthFromFontProgram = font.getWidthFromFont(glyphCode);
+		} catch (IOException e) {
+			LOGGER.debug("Error processing text show operator");
+			LOGGER.info(e);
+		}
+		this.widthFromDictionary = widthFromDictionary;
+		this.widthFromFontProgram = widthFromFontProgram;
+
+		String name = null;
+		int cid = -1;
+		if (font instanceof PDSimpleFont) {
+			Encoding encoding = ((PDSimpleFont) font).getEncoding();
+			name = encoding == null ? null : encoding.getName(glyphCode);
+		} else if (font instanceof PDType0Font) {
+			cid = ((PDType0Font) font).codeToCID(glyphCode);
+			try {
+				if (((PDType0Font) font).codeToGID(glyphCode) == 0) {
+					name = ".notdef";
+				}
+			} catch (IOException e) {
+				LOGGER.debug("Can't convert code to glyph", e);
+			}
+		}
+		this.name = name;
+		this.cid = cid;
+
+		String toUnicode;
+		try {
+			toUnicode = font.toUnicode(glyphCode);
+		} catch (IOException e) {
+			LOGGER.debug(e);
+			toUnicode = null;
+		}
+		this.toUnicode = toUnicode;
+	}
+
+	public Boolean getGlyphPresent() {
+		return this.glyphPresent;
+	}
+
+	/**
+	 * @return CID of the glyph for Type0 fonts, -1 otherwise
+	 */
+	public int getCID() {
+		return this.cid;
+	}
+
+	public float getWidthFromDictionary() {
+		return this.widthFromDictionary;
+	}
+
+	public float getWidthFromFontProgram() {
+		return this.widthFromFontProgram;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public String getToUnicode() {
+		return this.toUnicode;
+	}
+
+	/**
+	 * Obtains ID of the glyph occurrence. ID string is created once for every
+	 * rendering mode and is shared by all occurrences of the glyph.
+	 *
+	 * @param font          font of the glyph
+	 * @param glyphCode     character code of the glyph
+	 * @param renderingMode rendering mode of the glyph occurrence
+	 * @return string representation of ID
+	 */
+	public String getID(PDFont font, int glyphCode, int renderingMode) {
+		if (renderingMode < 0 || renderingMode >= RENDERING_MODES_NUMBER) {
+			return IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
+		}
+		if (this.ids == null) {
+			this.ids = new String[RENDERING_MODES_NUMBER];
+		}
+		String id = this.ids[renderingMode];
+		if (id == null) {
+			id = IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
+			this.ids[renderingMode] = id;
+		}
+		return id;
+	}
+}
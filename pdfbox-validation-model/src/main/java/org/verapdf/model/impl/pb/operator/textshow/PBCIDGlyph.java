@@ -37,6 +37,11 @@ public class PBCIDGlyph extends PBGlyph implements CIDGlyph {
 		this.CID = CID;
 	}
 
+	public PBCIDGlyph(GlyphData data, PDFont font, int glyphCode, int renderingMode) {
+		super(data, font, glyphCode, CID_GLYPH_TYPE, renderingMode);
+		this.CID = data.getCID();
+	}
+
 	@Override
 	public Long getCID() {
 		return Long.valueOf(CID);
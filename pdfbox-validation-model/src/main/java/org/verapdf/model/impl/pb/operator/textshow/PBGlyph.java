@@ -20,121 +20,87 @@
  */
 package org.verapdf.model.impl.pb.operator.textshow;
 
-import org.apache.log4j.Logger;
 import org.apache.pdfbox.pdmodel.font.PDFont;
-import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
-import org.apache.pdfbox.pdmodel.font.PDType0Font;
-import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.operator.Glyph;
-import org.verapdf.model.tools.IDGenerator;
-
-import java.io.IOException;
 
 /**
  * @author Timur Kamalov
  */
 public class PBGlyph extends GenericModelObject implements Glyph {
 
-	private static final Logger LOGGER = Logger.getLogger(PBGlyph.class);
-
 	public final static String GLYPH_TYPE = "Glyph";
 
 	private static final int[] UNICODE_PRIVATE_USE_AREA_ARRAY = {0xE000, 0xF8FF, 0xF0000, 0xFFFFD, 0x100000, 0x10FFFD};
 
-	private final String id;
-
-	private Boolean glyphPresent;
-	private float widthFromDictionary;
-	private float widthFromFontProgram;
-	private String name;
-	private String toUnicode;
-	private Long renderingMode;
+	private final GlyphData data;
+	private final PDFont font;
+	private final int glyphCode;
+	private final int renderingMode;
 
 	public PBGlyph(Boolean glyphPresent, PDFont font, int glyphCode, int renderingMode) {
 		this(glyphPresent, font, glyphCode, GLYPH_TYPE, renderingMode);
 	}
 
 	public PBGlyph(Boolean glyphPresent, PDFont font, int glyphCode, String type, int renderingMode) {
-		super(type);
-		this.glyphPresent = glyphPresent;
-		this.renderingMode = (long) renderingMode;
-		try {
-			this.widthFromDictionary = font.getWidth(glyphCode);
-			this.widthFromFontProgram = font.getWidthFromFont(glyphCode);
-		} catch (IOException e) {
-			LOGGER.debug("Error processing text show operator");
-			LOGGER.info(e);
-		}
-
+		this(new GlyphData(glyphPresent, font, glyphCode), font, glyphCode, type, renderingMode);
+	}
 
-		if (font instanceof PDSimpleFont) {
-			Encoding encoding = ((PDSimpleFont) font).getEncoding();
-			this.name = encoding == null ? null : encoding.getName(glyphCode);
-		} else if (font instanceof PDType0Font){
-			try {
-				if (((PDType0Font) font).codeToGID(glyphCode) == 0) {
-					this.name = ".notdef";
-				} else {
-					this.name = null;
-				}
-			} catch (IOException e) {
-				LOGGER.debug("Can't convert code to glyph",e);
-				this.name = null;
-			}
-		}
+	public PBGlyph(GlyphData data, PDFont font, int glyphCode, int renderingMode) {
+		this(data, font, glyphCode, GLYPH_TYPE, renderingMode);
+	}
 
-		try {
-			this.toUnicode = font.toUnicode(glyphCode);
-		} catch (IOException e) {
-			LOGGER.debug(e);
-			this.toUnicode = null;
-		}
-		this.id = IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
+	public PBGlyph(GlyphData data, PDFont font, int glyphCode, String type, int renderingMode) {
+		super(type);
+		this.data = data;
+		this.font = font;
+		this.glyphCode = glyphCode;
+		this.renderingMode = renderingMode;
 	}
 
 	@Override
 	public String getname() {
-		return this.name;
+		return this.data.getName();
 	}
 
 	@Override
 	public Boolean getisGlyphPresent() {
-		return this.glyphPresent;
+		return this.data.getGlyphPresent();
 	}
 
 	@Override
 	public String gettoUnicode() {
-		return this.toUnicode;
+		return this.data.getToUnicode();
 	}
 
 	@Override
 	public Long getrenderingMode() {
-		return this.renderingMode;
+		return Long.valueOf(this.renderingMode);
 	}
 
 	@Override
 	public Double getwidthFromDictionary() {
-		return (double)widthFromDictionary;
+		return (double) this.data.getWidthFromDictionary();
 	}
 
 	@Override
 	public Double getwidthFromFontProgram() {
-		return (double)widthFromFontProgram;
+		return (double) this.data.getWidthFromFontProgram();
 	}
 
 	@Override
 	public String getID() {
-		return id;
+		return this.data.getID(this.font, this.glyphCode, this.renderingMode);
 	}
 
 	@Override
 	public Boolean getunicodePUA() {
+		String toUnicode = this.data.getToUnicode();
 		if (toUnicode == null) {
 			return false;
 		}
 		for (int i = 0; i < toUnicode.length(); ++i) {
-			int unicode = this.toUnicode.codePointAt(0);
+			int unicode = toUnicode.codePointAt(0);
 			if ((unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[0] &&
 					unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[1]) ||
 					(unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[2] &&
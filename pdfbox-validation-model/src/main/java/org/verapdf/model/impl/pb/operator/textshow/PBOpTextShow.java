@@ -36,21 +36,19 @@ import org.apache.pdfbox.cos.COSString;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.common.PDStream;
 import org.apache.pdfbox.pdmodel.font.PDCIDFontType2;
-import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.apache.pdfbox.pdmodel.font.PDType0Font;
 import org.apache.pdfbox.pdmodel.font.PDType1CFont;
 import org.apache.pdfbox.pdmodel.font.PDType3Font;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
-import org.apache.pdfbox.preflight.font.container.FontContainer;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.model.factory.font.FontFactory;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.operator.OpTextShow;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDFont;
-import org.verapdf.model.tools.FontHelper;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -136,12 +134,18 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 
 	private List<PBGlyph> getUsedGlyphs() {
 		org.apache.pdfbox.pdmodel.font.PDFont font = getFontFromResources();
-		FontContainer<? extends PDFontLike> fontContainer = FontHelper.getFontContainer(font);
+		if (font == null) {
+			return Collections.emptyList();
+		}
+		FontGlyphCache fontGlyphCache = this.document != null ?
+				ValidationContext.of(this.document).getFontGlyphCache(font) : new FontGlyphCache(font);
 
-		if (fontContainer == null) {
+		if (fontGlyphCache.getFontContainer() == null) {
 			return Collections.emptyList();
 		}
-        boolean fontProgramIsInvalid = font.isDamaged() || fontProgramIsNull(font);
+		font = fontGlyphCache.getFont();
+		boolean isType0 = font.getSubType().equals(FontFactory.TYPE_0);
+		int renderingMode = this.state.getRenderingMode().intValue();
 
 		List<PBGlyph> res = new ArrayList<>();
 		List<byte[]> strings = getStrings(this.arguments);
@@ -149,19 +153,12 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 			try (InputStream inputStream = new ByteArrayInputStream(string)) {
 				while (inputStream.available() > 0) {
 					int code = font.readCode(inputStream);
-					Boolean glyphPresent = null;
-					if (!fontProgramIsInvalid) {
-						// every font contains notdef glyph. But if we call method
-						// of font container we can't distinguish case of code 0
-						// and glyph that is not present indeed.
-						glyphPresent = code == 0 || fontContainer.hasGlyph(code);
-					}
+					GlyphData glyphData = fontGlyphCache.getGlyph(code);
 					PBGlyph glyph;
-					if (font.getSubType().equals(FontFactory.TYPE_0)) {
-						int CID = ((PDType0Font) font).codeToCID(code);
-						glyph = new PBCIDGlyph(glyphPresent, font, code, CID, this.state.getRenderingMode().intValue());
+					if (isType0) {
+						glyph = new PBCIDGlyph(glyphData, font, code, renderingMode);
 					} else {
-						glyph = new PBGlyph(glyphPresent, font, code, this.state.getRenderingMode().intValue());
+						glyph = new PBGlyph(glyphData, font, code, renderingMode);
 					}
 					res.add(glyph);
 				}
@@ -291,7 +288,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 		}
 	}
 
-	private static boolean fontProgramIsNull(org.apache.pdfbox.pdmodel.font.PDFont font) {
+	static boolean fontProgramIsNull(org.apache.pdfbox.pdmodel.font.PDFont font) {
 		if (font instanceof PDType3Font) {
 			return false;
 		} else if (font instanceof PDType0Font) {
@@ -82,7 +82,7 @@ public class PBoxOutputIntents extends GenericModelObject implements OutputInten
     private List<PDOutputIntent> parseOutputIntents() {
         List<PDOutputIntent> res = new ArrayList<>(outInts.size());
         for (org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent outInt : outInts) {
-            res.add(new PBoxPDOutputIntent(outInt));
+            res.add(new PBoxPDOutputIntent(outInt, this.document));
         }
         return res;
     }
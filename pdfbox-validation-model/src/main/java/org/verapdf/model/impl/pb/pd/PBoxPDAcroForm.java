@@ -29,14 +29,11 @@ import org.verapdf.model.impl.pb.pd.signatures.PBoxPDSignatureField;
 import org.verapdf.model.pdlayer.PDAcroForm;
 import org.verapdf.model.pdlayer.PDFormField;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.verapdf.xmp.impl.ByteBuffer;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,8 +60,13 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
     public static final String ACROBAT7 = "acrobat7";
     public static final String DYNAMIC_RENDER = "dynamicRender";
 
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
 	private final boolean needAppearance;
 
+    private boolean isDynamicRenderComputed = false;
+    private String dynamicRender;
+
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
 
@@ -76,6 +78,14 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
 		this.flavour = flavour;
     }
 
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // element names are matched with their prefixes
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
     @Override
     public Boolean getNeedAppearances() {
         return Boolean.valueOf(this.needAppearance);
@@ -90,6 +100,14 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
 
     @Override
     public String getdynamicRender() {
+        if (!this.isDynamicRenderComputed) {
+            this.dynamicRender = findDynamicRender();
+            this.isDynamicRenderComputed = true;
+        }
+        return this.dynamicRender;
+    }
+
+    private String findDynamicRender() {
         COSBase object = ((COSDictionary) this.simplePDObject.getCOSObject()).getItem(COSName.XFA);
         if (object == null) {
             return null;
@@ -108,19 +126,11 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
         }
         if (object instanceof COSStream) {
             try (InputStream asInputStream = ((COSStream) object).getUnfilteredStream()) {
-                DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-                builder.setErrorHandler(null);
-                Document doc = builder.parse(new InputSource(new ByteBuffer(asInputStream).getByteStream()));
-                Node configParent = getProperty(doc, XDP);
-                if (configParent == null) {
-                    configParent = doc;
-                }
-                Node config = getProperty(configParent, CONFIG);
-                Node acrobat = getProperty(config, ACROBAT);
-                Node acrobat7 = getProperty(acrobat, ACROBAT7);
-                Node dynamicRender = getProperty(acrobat7, DYNAMIC_RENDER);
-                if (dynamicRender != null) {
-                    return dynamicRender.getChildNodes().item(0).getNodeValue();
+                XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(asInputStream);
+                try {
+                    return readDynamicRender(reader);
+                } finally {
+                    reader.close();
                 }
             } catch (Exception e) {
                 LOGGER.log(Level.WARNING, "Problems with parsing XFA");
@@ -130,20 +140,83 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
         return null;
     }
 
-    private Node getProperty(Node parent, String propertyName) {
-        if (parent == null) {
-            return null;
-        }
-        NodeList childNodes = parent.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node item = childNodes.item(i);
-            if (propertyName.equals(item.getNodeName())) {
-                return item;
+    /**
+     * Reads value of config/acrobat/acrobat7/dynamicRender element, config
+     * element is either the root element or a child of xdp:xdp root element.
+     * As in a document tree only the first child element with the required
+     * name is examined on every level, and reading stops as soon as the value
+     * is found or that element ends.
+     */
+    private static String readDynamicRender(XMLStreamReader reader) throws XMLStreamException {
+        String[] path = {CONFIG, ACROBAT, ACROBAT7, DYNAMIC_RENDER};
+        int depth = 0;
+        // number of path elements found and depth of the last one of them
+        int matched = 0;
+        int matchedDepth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                String name = getName(reader);
+                if (depth == 1) {
+                    if (XDP.equals(name)) {
+                        matchedDepth = depth;
+                        continue;
+                    }
+                    if (!CONFIG.equals(name)) {
+                        return null;
+                    }
+                }
+                if (depth == matchedDepth + 1 && path[matched].equals(name)) {
+                    matched++;
+                    matchedDepth = depth;
+                    if (matched == path.length) {
+                        return readFirstChildValue(reader);
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == matchedDepth) {
+                    return null;
+                }
+                depth--;
             }
         }
         return null;
     }
 
+    private static String readFirstChildValue(XMLStreamReader reader) throws XMLStreamException {
+        int event = reader.next();
+        switch (event) {
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.SPACE:
+            case XMLStreamConstants.CDATA:
+                // text may be reported in several parts
+                StringBuilder value = new StringBuilder(reader.getText());
+                int textEvent = event == XMLStreamConstants.CDATA ? event : XMLStreamConstants.CHARACTERS;
+                event = reader.next();
+                while (event == textEvent || (textEvent == XMLStreamConstants.CHARACTERS
+                        && event == XMLStreamConstants.SPACE)) {
+                    value.append(reader.getText());
+                    event = reader.next();
+                }
+                return value.toString();
+            case XMLStreamConstants.COMMENT:
+                return reader.getText();
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                return reader.getPIData();
+            case XMLStreamConstants.END_ELEMENT:
+                throw new XMLStreamException("Empty " + DYNAMIC_RENDER + " element");
+            default:
+                return null;
+        }
+    }
+
+    private static String getName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        String localName = reader.getLocalName();
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+    }
+
 	@Override
     public List<? extends Object> getLinkedObjects(String link) {
 		switch (link) {
@@ -24,10 +24,7 @@ import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDResources;
-import org.apache.pdfbox.pdmodel.common.PDNumberTreeNode;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDParentTreeValue;
-import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureTreeRoot;
 import org.apache.pdfbox.pdmodel.interactive.action.PDActionFactory;
 import org.apache.pdfbox.pdmodel.interactive.action.PDAnnotationAdditionalActions;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
@@ -40,6 +37,7 @@ import org.verapdf.model.coslayer.CosLang;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.impl.pb.cos.PBCosBM;
 import org.verapdf.model.impl.pb.cos.PBCosLang;
+import org.verapdf.model.impl.pb.containers.ParentTreeIndex;
 import org.verapdf.model.impl.pb.cos.PBCosNumber;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAction;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAnnotationAdditionalActions;
@@ -55,7 +53,6 @@ import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -254,45 +251,18 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 
 	@Override
 	public String getstructParentType() {
-		PDStructureTreeRoot structTreeRoot = this.document.getDocumentCatalog().getStructureTreeRoot();
-		int structParent = ((PDAnnotation)this.simplePDObject).getStructParent();
-		if (structTreeRoot != null) {
-			PDNumberTreeNode parentTreeRoot = structTreeRoot.getParentTree();
-			COSBase structureElement = null;
-			try {
-				PDParentTreeValue treeValue = (PDParentTreeValue)parentTreeRoot.getValue(structParent);
-				if (treeValue != null) {
-					structureElement = treeValue.getCOSObject();
-				}
-			} catch (IOException var6) {
-				return null;
-			}
-			if (structureElement != null && structureElement instanceof COSDictionary) {
-				return ((COSDictionary)structureElement).getNameAsString(COSName.S);
-			}
-		}
-		return null;
+		COSDictionary structureElement = getStructParentElement();
+		return structureElement == null ? null : structureElement.getNameAsString(COSName.S);
 	}
 
 	private List<CosLang> getLang() {
-		PDStructureTreeRoot structTreeRoot = this.document.getDocumentCatalog().getStructureTreeRoot();
-		int structParent = ((PDAnnotation) this.simplePDObject).getStructParent();
-		if (structTreeRoot != null && structParent != 0) {
-			PDNumberTreeNode parentTreeRoot = structTreeRoot.getParentTree();
-			COSBase structureElement;
-			try {
-				PDParentTreeValue treeValue = parentTreeRoot == null ? null : (PDParentTreeValue) parentTreeRoot.getValue(structParent);
-				structureElement = treeValue == null ? null : treeValue.getCOSObject();
-			} catch (IOException e) {
-				return Collections.emptyList();
-			}
-			if (structureElement instanceof COSDictionary) {
-				String lang = ((COSDictionary) structureElement).getNameAsString(COSName.LANG);
-				if (lang != null) {
-					List<CosLang> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-					list.add(new PBCosLang(new COSString(lang)));
-					return Collections.unmodifiableList(list);
-				}
+		if (((PDAnnotation) this.simplePDObject).getStructParent() != 0) {
+			COSDictionary structureElement = getStructParentElement();
+			String lang = structureElement == null ? null : structureElement.getNameAsString(COSName.LANG);
+			if (lang != null) {
+				List<CosLang> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
+				list.add(new PBCosLang(new COSString(lang)));
+				return Collections.unmodifiableList(list);
 			}
 		}
 		return Collections.emptyList();
@@ -305,24 +275,18 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 
 	@Override
 	public String getAlt() {
-		PDStructureTreeRoot structTreeRoot = this.document.getDocumentCatalog().getStructureTreeRoot();
-		int structParent = ((PDAnnotation) this.simplePDObject).getStructParent();
-		if (structTreeRoot != null && structParent != 0) {
-			PDNumberTreeNode parentTreeRoot = structTreeRoot.getParentTree();
-			COSBase structureElement;
-			try {
-				PDParentTreeValue treeValue = parentTreeRoot == null ? null : (PDParentTreeValue) parentTreeRoot.getValue(structParent);
-				structureElement = treeValue == null ? null : treeValue.getCOSObject();
-			} catch (IOException e) {
-				return null;
-			}
-			if (structureElement instanceof COSDictionary) {
-				return ((COSDictionary) structureElement).getNameAsString(COSName.ALT);
-			}
+		if (((PDAnnotation) this.simplePDObject).getStructParent() != 0) {
+			COSDictionary structureElement = getStructParentElement();
+			return structureElement == null ? null : structureElement.getNameAsString(COSName.ALT);
 		}
 		return null;
 	}
 
+	private COSDictionary getStructParentElement() {
+		int structParent = ((PDAnnotation) this.simplePDObject).getStructParent();
+		return ParentTreeIndex.of(this.document).getStructElement(structParent);
+	}
+
 	@Override
 	public Boolean getisOutsideCropBox() {
 		PDRectangle cropBox = pdPage.getCropBox();
@@ -26,8 +26,14 @@ import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.factory.operator.OperatorStream;
+import org.verapdf.model.impl.pb.containers.ContentStreamCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -53,7 +59,7 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 	public static final String OPERATORS = "operators";
 	private static final String RESOURCES = "resources";
 
-	private final PDInheritableResources resources;
+	private PDInheritableResources resources;
 	private List<Operator> operators = null;
 	private boolean containsTransparency = false;
 
@@ -102,16 +108,33 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 		try {
 			COSStream cStream = this.contentStream.getContentStream();
 			if (cStream != null) {
-				PDFStreamParser streamParser = new PDFStreamParser(
-						cStream, true);
-				streamParser.parse();
-				OperatorFactory operatorFactory = new OperatorFactory();
-				List<Operator> result = operatorFactory.operatorsFromTokens(
-						streamParser.getTokens(),
-						this.resources, this.document, this.flavour);
-
-				this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
+				ContentStreamCache cache = this.document != null && isCacheable(this.contentStream) ?
+						ValidationContext.of(this.document).getContentStreamCache() : null;
+				if (cache != null) {
+					ContentStreamCache.Entry entry = cache.get(cStream.getKey(), this.resources, this.flavour);
+					if (entry != null) {
+						this.resources = entry.getResources();
+						this.containsTransparency = entry.isContainsTransparency();
+						this.operators = entry.getOperators();
+						return;
+					}
+				}
+				OperatorStream operatorStream = streamOperators(cStream);
+				List<Operator> result = new ArrayList<>();
+				for (Operator operator : operatorStream) {
+					result.add(operator);
+				}
+				if (operatorStream.isFailed()) {
+					this.operators = Collections.emptyList();
+					return;
+				}
+
+				this.containsTransparency = operatorStream.isContainsTransparency();
 				this.operators = Collections.unmodifiableList(result);
+				if (cache != null) {
+					cache.put(cStream.getKey(), this.resources, this.flavour,
+							this.operators, this.containsTransparency);
+				}
 			} else {
 				this.operators = Collections.emptyList();
 			}
@@ -122,6 +145,25 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 		}
 	}
 
+	/**
+	 * Form XObjects, Type3 glyph procedures and tiling patterns are shared
+	 * between places of invocation, so their operators are cached.
+	 */
+	private static boolean isCacheable(org.apache.pdfbox.contentstream.PDContentStream contentStream) {
+		return contentStream instanceof PDFormXObject || contentStream instanceof PDType3CharProc
+				|| contentStream instanceof PDTilingPattern;
+	}
+
+	/**
+	 * Operators are parsed while the sequence is traversed, so tokens of the
+	 * whole stream are never held in memory together with operators.
+	 */
+	private OperatorStream streamOperators(COSStream cStream) throws IOException {
+		PDFStreamParser streamParser = cStream == null ? null : new PDFStreamParser(cStream, true);
+		return new OperatorFactory().operatorsFromParser(streamParser,
+				this.resources, this.document, this.flavour);
+	}
+
 	@Override
 	public String getundefinedResourceNames() {
 		return resources.getUndefinedResourceNames().stream()
@@ -26,13 +26,13 @@ import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSString;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
-import org.apache.pdfbox.pdmodel.PDPageTree;
 import org.apache.pdfbox.pdmodel.common.PDDestinationOrAction;
 import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureTreeRoot;
 import org.apache.pdfbox.pdmodel.graphics.optionalcontent.PDOptionalContentProperties;
 import org.apache.pdfbox.pdmodel.interactive.action.PDDocumentCatalogAdditionalActions;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosLang;
+import org.verapdf.model.impl.pb.containers.PageIndex;
 import org.verapdf.model.impl.pb.cos.PBCosLang;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAction;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDCatalogAdditionalActions;
@@ -42,10 +42,13 @@ import org.verapdf.model.tools.OutlinesHelper;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 
 import static org.verapdf.model.impl.pb.pd.PBoxPDPage.SQUARE_ORIENTATION;
@@ -117,6 +120,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 	private final PDDocumentCatalog catalog;
 	private final PDFAFlavour flavour;
 	private OutputIntents outputIntents = null;
+	private String mostCommonOrientation = null;
 
 	/**
 	 * Default constructor
@@ -141,9 +145,17 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 
 	@Override
 	public String getmostCommonOrientation() {
-		List<String> twoTheMostFrequent = getPages()
+		if (this.mostCommonOrientation == null) {
+			this.mostCommonOrientation = calculateMostCommonOrientation();
+		}
+		return this.mostCommonOrientation;
+	}
+
+	private String calculateMostCommonOrientation() {
+		List<String> twoTheMostFrequent = PageIndex.of(this.document).getPages()
 				.stream()
-				.map(PDPage::getorientation)
+				.map(PBoxPDPage::computeOrientation)
+				.filter(Objects::nonNull)
 				.collect(Collectors.groupingBy(a -> a, Collectors.counting()))
 				.entrySet()
 				.stream()
@@ -151,6 +163,9 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 				.limit(2)
 				.map(Map.Entry::getKey)
 				.collect(Collectors.toList());
+		if (twoTheMostFrequent.isEmpty()) {
+			return null;
+		}
 		return SQUARE_ORIENTATION.equals(twoTheMostFrequent.get(0)) && twoTheMostFrequent.size() == 2 ? twoTheMostFrequent.get(1) : twoTheMostFrequent.get(0);
 	}
 
@@ -261,12 +276,38 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 	}
 
 	private List<PDPage> getPages() {
-		PDPageTree pageTree = this.document.getPages();
-		List<PDPage> pages = new ArrayList<>(pageTree.getCount());
-		for (org.apache.pdfbox.pdmodel.PDPage page : pageTree) {
-			pages.add(new PBoxPDPage(page, this.document, this.flavour));
+		return new LazyPages(PageIndex.of(this.document));
+	}
+
+	/**
+	 * List of pages, that creates page objects on demand. Created pages are
+	 * kept, as the validator keeps them anyway, parsed content of the pages
+	 * is released by the page window of the validation context.
+	 */
+	private class LazyPages extends AbstractList<PDPage> implements RandomAccess {
+
+		private final PageIndex pageIndex;
+		private final PBoxPDPage[] pages;
+
+		LazyPages(PageIndex pageIndex) {
+			this.pageIndex = pageIndex;
+			this.pages = new PBoxPDPage[pageIndex.size()];
+		}
+
+		@Override
+		public PDPage get(int index) {
+			PBoxPDPage page = this.pages[index];
+			if (page == null) {
+				page = new PBoxPDPage(this.pageIndex.getPage(index), index, document, flavour);
+				this.pages[index] = page;
+			}
+			return page;
+		}
+
+		@Override
+		public int size() {
+			return this.pages.length;
 		}
-		return Collections.unmodifiableList(pages);
 	}
 
 	private List<PDMetadata> getMetadata() {
@@ -299,7 +340,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 			PDStructureTreeRoot root = this.catalog.getStructureTreeRoot();
 			if (root != null) {
 				List<PDStructTreeRoot> treeRoot = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				treeRoot.add(new PBoxPDStructTreeRoot(root, this.flavour));
+				treeRoot.add(new PBoxPDStructTreeRoot(root, this.document, this.flavour));
 				return Collections.unmodifiableList(treeRoot);
 			}
 		}
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.pd;
 import org.verapdf.xmp.XMPException;
 import org.verapdf.xmp.impl.VeraPDFMeta;
 import org.verapdf.xmp.impl.VeraPDFXMPNode;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
@@ -32,6 +33,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.impl.axl.AXLMainXMPPackage;
 import org.verapdf.model.impl.axl.AXLXMPPackage;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.pdlayer.PDMetadata;
 import org.verapdf.model.xmplayer.XMPPackage;
@@ -101,7 +103,9 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 		try {
 			COSStream stream = ((org.apache.pdfbox.pdmodel.common.PDMetadata) this.simplePDObject).getStream();
 			if (stream != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(stream.getUnfilteredStream());
+				XMPCache xmpCache = this.document != null ?
+						ValidationContext.of(this.document).getXMPCache() : new XMPCache();
+				VeraPDFMeta metadata = xmpCache.get(stream);
 				if (isMainMetadata) {
 					xmp.add(new AXLMainXMPPackage(metadata, true, this.flavour));
 				} else if (this.flavour == null || this.flavour.getPart() == null
@@ -109,7 +113,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 					COSStream mainStream = mainMetadata.getStream();
 					VeraPDFXMPNode mainExtensionNode = null;
 					if (mainStream != null) {
-						VeraPDFMeta mainMeta = VeraPDFMeta.parse(mainStream.getUnfilteredStream());
+						VeraPDFMeta mainMeta = xmpCache.get(mainStream);
 						mainExtensionNode = mainMeta.getExtensionSchemasNode();
 					}
 					xmp.add(new AXLXMPPackage(metadata, true, mainExtensionNode, this.flavour));
@@ -28,6 +28,7 @@ import org.apache.pdfbox.pdmodel.common.COSObjectable;
 import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.pdlayer.PDObject;
+import org.verapdf.model.tools.IDGenerator;
 
 import java.util.stream.Collectors;
 
@@ -43,6 +44,9 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 	protected PDContentStream contentStream;
 	protected PDFontLike pdFontLike;
 	protected CMap cMap;
+	// key used to create ID on demand
+	private COSObjectKey idKey = null;
+	private boolean hasID = false;
 	private String id = null;
 
 	protected PBoxPDObject(COSObjectable simplePDObject, final String type) {
@@ -52,9 +56,7 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		if (simplePDObject != null) {
 			COSBase cosObject = simplePDObject.getCOSObject();
 			if (cosObject != null) {
-				COSObjectKey key = cosObject.getKey();
-				id = key != null ? key.getNumber() + " " + key.getGeneration() + " obj " + this.getObjectType()
-						: super.getID();
+				setIDKey(cosObject.getKey());
 			}
 		}
 	}
@@ -69,9 +71,7 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		if (cosDocument != null) {
 			COSBase cosBase = cosDocument.getCOSObject();
 			if (cosBase != null) {
-				COSObjectKey key = cosBase.getKey();
-				id = key != null ? key.getNumber() + " " + key.getGeneration() + " obj " + this.getObjectType()
-						: super.getID();
+				setIDKey(cosBase.getKey());
 			}
 		}
 	}
@@ -86,9 +86,7 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		if (cosStream != null) {
 			COSBase cosBase = cosStream.getCOSObject();
 			if (cosBase != null) {
-				COSObjectKey key = cosBase.getKey();
-				id = key != null ? key.getNumber() + " " + key.getGeneration() + " obj " + this.getObjectType()
-						: super.getID();
+				setIDKey(cosBase.getKey());
 			}
 		}
 	}
@@ -98,9 +96,7 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		this.pdFontLike = pdFontLike;
 
 		if (pdFontLike instanceof COSBase) {
-			COSObjectKey key = ((COSBase) pdFontLike).getKey();
-			id = key != null ? key.getNumber() + " " + key.getGeneration() + " obj " + this.getObjectType()
-					: super.getID();
+			setIDKey(((COSBase) pdFontLike).getKey());
 		}
 	}
 
@@ -110,14 +106,21 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		this.simplePDObject = cMapFile;
 
 		if (this.simplePDObject != null) {
-			COSObjectKey key = this.simplePDObject.getCOSObject().getKey();
-			id = key != null ? key.getNumber() + " " + key.getGeneration() + " obj " + this.getObjectType()
-					: super.getID();
+			setIDKey(this.simplePDObject.getCOSObject().getKey());
 		}
 	}
 
+	private void setIDKey(COSObjectKey key) {
+		this.idKey = key;
+		this.hasID = true;
+	}
+
 	@Override
 	public String getID() {
+		if (this.id == null && this.hasID) {
+			this.id = this.idKey != null ? IDGenerator.generateID(this.idKey, this.getObjectType())
+					: super.getID();
+		}
 		return this.id;
 	}
 
@@ -25,8 +25,11 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.ICCOutputProfile;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.external.PBoxICCOutputProfile;
 import org.verapdf.model.pdlayer.PDOutputIntent;
 import org.verapdf.model.tools.IDGenerator;
@@ -51,7 +54,13 @@ public class PBoxPDOutputIntent extends PBoxPDObject implements PDOutputIntent {
 
 
 	public PBoxPDOutputIntent(org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent simplePDObject) {
+		this(simplePDObject, null);
+	}
+
+	public PBoxPDOutputIntent(org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent simplePDObject,
+			PDDocument document) {
 		super(simplePDObject, OUTPUT_INTENT_TYPE);
+		this.document = document;
 		this.destOutputProfileIndirect = PBoxPDOutputIntent.getDestOutputProfileIndirect(simplePDObject);
 	}
 
@@ -108,7 +117,10 @@ public class PBoxPDOutputIntent extends PBoxPDObject implements PDOutputIntent {
 		COSStream dest = ((org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent) this.simplePDObject)
 				.getDestOutputIntent();
 		if (dest != null) {
-			return new PBoxICCOutputProfile(dest, getS());
+			// profiles of output intents without document are not shared
+			ICCProfileCache cache = this.document != null ?
+					ValidationContext.of(this.document).getICCProfileCache() : new ICCProfileCache();
+			return new PBoxICCOutputProfile(dest, getS(), cache);
 		}
 		return null;
 	}
@@ -33,7 +33,8 @@ import org.apache.pdfbox.pdmodel.interactive.action.PDPageAdditionalActions;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosBBox;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.PageIndex;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosBBox;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDPageAdditionalActions;
 import org.verapdf.model.pdlayer.*;
@@ -97,6 +98,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
 	private final PDColorSpace blendingColorSpace;
+	private int pageNumber;
 
 	/**
 	 * Default constructor.
@@ -104,7 +106,18 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	 * @param simplePDObject Apache PDFBox page representation
 	 */
 	public PBoxPDPage(org.apache.pdfbox.pdmodel.PDPage simplePDObject, PDDocument document, PDFAFlavour flavour) {
+		this(simplePDObject, -1, document, flavour);
+	}
+
+	/**
+	 * @param simplePDObject Apache PDFBox page representation
+	 * @param pageNumber     zero based number of the page in the document,
+	 *                       negative value if the number is unknown
+	 */
+	public PBoxPDPage(org.apache.pdfbox.pdmodel.PDPage simplePDObject, int pageNumber,
+					  PDDocument document, PDFAFlavour flavour) {
 		super((COSObjectable) simplePDObject, PAGE_TYPE);
+		this.pageNumber = pageNumber;
 		this.document = document;
 		this.flavour = flavour;
 		this.blendingColorSpace = getBlendingColorSpace();
@@ -122,7 +135,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 
 	@Override
 	public Boolean getcontainsTransparency() {
-		StaticContainers.setCurrentTransparencyColorSpace(blendingColorSpace);
+		ValidationContext.of(this.document).setCurrentTransparencyColorSpace(blendingColorSpace);
 		if (this.contentStreams == null) {
 			parseContentStream();
 		}
@@ -168,10 +181,32 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 
 	@Override
 	public String getorientation() {
-		CosBBox mediaBox = getMediaBox().get(0);
-		double height = mediaBox.gettop() - mediaBox.getbottom();
-		double width = mediaBox.getright() - mediaBox.getleft();
-		long rotation = ((org.apache.pdfbox.pdmodel.PDPage) simplePDObject).getRotation();
+		return computeOrientation((org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject);
+	}
+
+	/**
+	 * Calculates orientation of the page from its media box and rotation
+	 *
+	 * @param page Apache PDFBox page representation
+	 * @return orientation of the page or null if the page has no valid media box
+	 */
+	public static String computeOrientation(org.apache.pdfbox.pdmodel.PDPage page) {
+		COSBase mediaBox = PDPageTree.getInheritableAttribute(page.getCOSObject(), COSName.MEDIA_BOX);
+		if (!(mediaBox instanceof COSArray) || ((COSArray) mediaBox).size() < 4) {
+			return null;
+		}
+		COSArray array = (COSArray) mediaBox;
+		COSBase left = array.get(0);
+		COSBase bottom = array.get(1);
+		COSBase right = array.get(2);
+		COSBase top = array.get(3);
+		if (!(left instanceof COSNumber) || !(bottom instanceof COSNumber)
+				|| !(right instanceof COSNumber) || !(top instanceof COSNumber)) {
+			return null;
+		}
+		double height = ((COSNumber) top).doubleValue() - ((COSNumber) bottom).doubleValue();
+		double width = ((COSNumber) right).doubleValue() - ((COSNumber) left).doubleValue();
+		long rotation = page.getRotation();
 		if ((height > width && rotation % 180 == 0) || (height < width && rotation % 180 == 90)) {
 			return PORTRAIT_ORIENTATION;
 		}
@@ -191,7 +226,11 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 
 	@Override
 	public Long getpageNumber() {
-		return (long) this.document.getPages().indexOf((org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject);
+		if (this.pageNumber < 0) {
+			this.pageNumber = PageIndex.of(this.document)
+					.getPageNumber((org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject);
+		}
+		return (long) this.pageNumber;
 	}
 
 	private List<OutputIntents> getOutputIntents() {
@@ -291,6 +330,17 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 		PBoxPDContentStream contentStream = new PBoxPDContentStream(page, resources, this.document, this.flavour);
 		contentStreams.add(contentStream);
 		this.containsTransparency = contentStream.isContainsTransparency();
+		ValidationContext.of(this.document).registerParsedPage(this);
+	}
+
+	/**
+	 * Releases parsed content streams and annotations of the page. They are
+	 * parsed again on the next request.
+	 */
+	public void releaseParsedContent() {
+		this.contentStreams = null;
+		this.annotations = null;
+		this.containsTransparency = false;
 	}
 
 	private List<PDAdditionalActions> getActions() {
@@ -394,7 +444,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	private List<TransparencyColorSpace> getTransparencyColorSpace() {
 		if (blendingColorSpace != null) {
 			List<TransparencyColorSpace> xFormTransparencyGroup = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			xFormTransparencyGroup.add(new PBoxTransparencyColorSpace(blendingColorSpace));
+			xFormTransparencyGroup.add(new PBoxTransparencyColorSpace(blendingColorSpace, this.document));
 			return Collections.unmodifiableList(xFormTransparencyGroup);
 		}
 		return Collections.emptyList();
@@ -403,8 +453,8 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	private List<TransparencyColorSpace> getParentTransparencyColorSpace() {
 		if (blendingColorSpace != null) {
 			List<TransparencyColorSpace> parentXFormTransparencyGroup = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			parentXFormTransparencyGroup.add(new PBoxTransparencyColorSpace(null));
-			StaticContainers.setCurrentTransparencyColorSpace(blendingColorSpace);
+			parentXFormTransparencyGroup.add(new PBoxTransparencyColorSpace(null, this.document));
+			ValidationContext.of(this.document).setCurrentTransparencyColorSpace(blendingColorSpace);
 			return Collections.unmodifiableList(parentXFormTransparencyGroup);
 		}
 		return Collections.emptyList();
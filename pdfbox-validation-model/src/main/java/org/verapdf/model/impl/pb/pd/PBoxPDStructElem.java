@@ -28,6 +28,7 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSString;
 import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureElement;
 import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureNode;
 import org.verapdf.model.baselayer.Object;
@@ -84,15 +85,23 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 
 	private TaggedPDFRoleMapHelper roleMapHelper;
 
+	// element which created current one while traversing the tree, set only
+	// if it is referenced from P entry of the current element
+	private PBoxPDStructElem parent;
+	private boolean isParentLangComputed = false;
+	private String parentLang;
+
 	/**
 	 * Default constructor
 	 *
 	 * @param structElemDictionary
 	 *            dictionary of structure element
 	 */
-	public PBoxPDStructElem(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, String type) {
+	public PBoxPDStructElem(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper,
+							PDDocument document, String type) {
 		super(structElemDictionary, type);
 		this.roleMapHelper = roleMapHelper;
+		this.document = document;
 	}
 
 	/**
@@ -116,8 +125,32 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 		           .collect(Collectors.joining("&"));
 	}
 
+	/**
+	 * @return dictionary of current structure element
+	 */
+	public COSDictionary getStructElemDictionary() {
+		return (COSDictionary) this.simplePDObject;
+	}
+
+	/**
+	 * Binds current element to the structure element which contains it in the
+	 * tree traversal, so inherited values are taken from the parent instead of
+	 * walking up P chain
+	 *
+	 * @param parent structure element which K entry references current one
+	 */
+	protected void setStructParent(PBoxPDStructElem parent) {
+		if (parent != null && ((COSDictionary) this.simplePDObject).getDictionaryObject(COSName.P)
+				== parent.simplePDObject) {
+			this.parent = parent;
+		}
+	}
+
 	@Override
 	public String getparentStandardType() {
+		if (this.parent != null) {
+			return this.parent.getstandardType();
+		}
 		COSBase parent = ((COSDictionary) this.simplePDObject).getDictionaryObject(COSName.P);
 		if (parent != null) {
 			COSBase type = ((COSDictionary) parent).getDictionaryObject(COSName.S);
@@ -167,7 +200,35 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 
 	@Override
 	public String getparentLang() {
-		COSString baseLang = null;
+		if (!this.isParentLangComputed) {
+			// values are propagated from the nearest computed ancestor down to
+			// current element, so every element is visited at most once
+			List<PBoxPDStructElem> chain = new ArrayList<>();
+			PBoxPDStructElem current = this;
+			while (!current.isParentLangComputed && current.parent != null) {
+				chain.add(current);
+				current = current.parent;
+			}
+			if (!current.isParentLangComputed) {
+				current.parentLang = current.findParentLang();
+				current.isParentLangComputed = true;
+			}
+			String lang = current.parentLang;
+			for (int i = chain.size() - 1; i >= 0; --i) {
+				PBoxPDStructElem element = chain.get(i);
+				String parentOwnLang = getOwnLang(element.parent.getStructElemDictionary());
+				if (parentOwnLang != null) {
+					lang = parentOwnLang;
+				}
+				element.parentLang = lang;
+				element.isParentLangComputed = true;
+			}
+		}
+		return this.parentLang;
+	}
+
+	private String findParentLang() {
+		String baseLang = null;
 		Set<COSObjectKey> keys = new HashSet<>();
 		COSObjectKey key;
 		COSDictionary parentDict = (COSDictionary)((COSDictionary) this.simplePDObject).getDictionaryObject(COSName.P);
@@ -184,7 +245,7 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 			if (key != null) {
 				keys.add(key);
 			}
-			baseLang = (COSString) parent.getCOSObject().getDictionaryObject(COSName.LANG);
+			baseLang = getOwnLang(parent.getCOSObject());
 			structureParent = parent.getParent();
 			if (structureParent instanceof PDStructureElement) {
 				parent = (PDStructureElement) structureParent;
@@ -192,10 +253,12 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 				parent = null;
 			}
 		}
-		if (baseLang != null) {
-			return baseLang.getString();
-		}
-		return null;
+		return baseLang;
+	}
+
+	private static String getOwnLang(COSDictionary structElem) {
+		COSBase lang = structElem.getDictionaryObject(COSName.LANG);
+		return lang instanceof COSString ? ((COSString) lang).getString() : null;
 	}
 
 	public static String getStructureElementStandardType(COSDictionary pdStructElem,
@@ -273,7 +336,7 @@ public class PBoxPDStructElem extends PBoxPDObject implements PDStructElem {
 	}
 
 	public List<PDStructElem> getChildren() {
-		return TaggedPDFHelper.getStructElemChildren((COSDictionary) this.simplePDObject, this.roleMapHelper);
+		return TaggedPDFHelper.getStructElemChildren(this, this.roleMapHelper, this.document);
 	}
 
 	@Override
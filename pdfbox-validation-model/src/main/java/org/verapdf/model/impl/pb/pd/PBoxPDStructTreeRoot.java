@@ -24,6 +24,7 @@ import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.documentinterchange.logicalstructure.PDStructureTreeRoot;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosUnicodeName;
@@ -64,8 +65,9 @@ public class PBoxPDStructTreeRoot extends PBoxPDObject implements PDStructTreeRo
 	 * @param treeRoot
 	 *            structure tree root implementation
 	 */
-	public PBoxPDStructTreeRoot(PDStructureTreeRoot treeRoot, PDFAFlavour flavour) {
+	public PBoxPDStructTreeRoot(PDStructureTreeRoot treeRoot, PDDocument document, PDFAFlavour flavour) {
 		super(treeRoot, STRUCT_TREE_ROOT_TYPE);
+		this.document = document;
 		this.flavour = flavour;
 	}
 
@@ -118,7 +120,8 @@ public class PBoxPDStructTreeRoot extends PBoxPDObject implements PDStructTreeRo
 	private List<PDStructElem> parseChildren() {
 		COSDictionary parent = ((PDStructureTreeRoot) this.simplePDObject).getCOSObject();
 		return TaggedPDFHelper.getStructTreeRootChildren(parent,
-		                                                 new TaggedPDFRoleMapHelper(getRoleMap(), this.flavour));
+		                                                 new TaggedPDFRoleMapHelper(getRoleMap(), this.flavour),
+		                                                 this.document);
 	}
 
 	private Map<String, String> getRoleMap() {
@@ -1,28 +1,33 @@
 package org.verapdf.model.impl.pb.pd;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
 import org.verapdf.model.GenericModelObject;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.pdlayer.TransparencyColorSpace;
 
 public class PBoxTransparencyColorSpace extends GenericModelObject implements TransparencyColorSpace {
 
     protected PDColorSpace colorSpace;
+    protected PDDocument document;
 
     public static final String TRANSPARENCY_COLOR_SPACE_TYPE = "TransparencyColorSpace";
 
-    public PBoxTransparencyColorSpace(PDColorSpace colorSpace, String type) {
+    public PBoxTransparencyColorSpace(PDColorSpace colorSpace, PDDocument document, String type) {
         super(type);
         this.colorSpace = colorSpace;
+        this.document = document;
     }
 
-    public PBoxTransparencyColorSpace(PDColorSpace colorSpace) {
-        this(colorSpace, TRANSPARENCY_COLOR_SPACE_TYPE);
+    public PBoxTransparencyColorSpace(PDColorSpace colorSpace, PDDocument document) {
+        this(colorSpace, document, TRANSPARENCY_COLOR_SPACE_TYPE);
     }
 
     @Override
     public String getcolorSpaceType() {
-        StaticContainers.setCurrentTransparencyColorSpace(colorSpace);
+        if (this.document != null) {
+            ValidationContext.of(this.document).setCurrentTransparencyColorSpace(colorSpace);
+        }
         if (colorSpace == null) {
             return null;
         }
@@ -20,9 +20,12 @@
  */
 package org.verapdf.model.impl.pb.pd.colors;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.verapdf.features.pb.tools.ICCProfileCache;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.ICCInputProfile;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.external.PBoxICCInputProfile;
 import org.verapdf.model.pdlayer.PDICCBased;
 
@@ -42,11 +45,21 @@ public class PBoxPDICCBased extends PBoxPDColorSpace implements PDICCBased {
 	public static final String ICC_PROFILE = "iccProfile";
 
 	public PBoxPDICCBased(org.apache.pdfbox.pdmodel.graphics.color.PDICCBased simplePDObject) {
-		super(simplePDObject, ICC_BASED_TYPE);
+		this(simplePDObject, (PDDocument) null);
+	}
+
+	public PBoxPDICCBased(org.apache.pdfbox.pdmodel.graphics.color.PDICCBased simplePDObject, PDDocument document) {
+		this(simplePDObject, ICC_BASED_TYPE, document);
 	}
 
 	protected PBoxPDICCBased(org.apache.pdfbox.pdmodel.graphics.color.PDICCBased simplePDObject, String type) {
+		this(simplePDObject, type, null);
+	}
+
+	protected PBoxPDICCBased(org.apache.pdfbox.pdmodel.graphics.color.PDICCBased simplePDObject, String type,
+			PDDocument document) {
 		super(simplePDObject, type);
+		this.document = document;
 	}
 
 	@Override
@@ -61,7 +74,10 @@ public class PBoxPDICCBased extends PBoxPDColorSpace implements PDICCBased {
 		PDStream pdStream = ((org.apache.pdfbox.pdmodel.graphics.color.PDICCBased) this.simplePDObject)
 				.getPDStream();
 		List<ICCInputProfile> inputProfile = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		inputProfile.add(new PBoxICCInputProfile(pdStream.getStream()));
+		// profiles of color spaces without document are not shared
+		ICCProfileCache cache = this.document != null ?
+				ValidationContext.of(this.document).getICCProfileCache() : new ICCProfileCache();
+		inputProfile.add(new PBoxICCInputProfile(pdStream.getStream(), cache));
 		return Collections.unmodifiableList(inputProfile);
 	}
 
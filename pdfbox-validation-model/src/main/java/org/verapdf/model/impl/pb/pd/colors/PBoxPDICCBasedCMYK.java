@@ -20,6 +20,7 @@
  */
 package org.verapdf.model.impl.pb.pd.colors;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.PDICCBased;
 import org.verapdf.model.pdlayer.PDICCBasedCMYK;
 
@@ -34,7 +35,11 @@ public class PBoxPDICCBasedCMYK extends PBoxPDICCBased implements PDICCBasedCMYK
 	private final Boolean overprintingFlag;
 
 	public PBoxPDICCBasedCMYK(PDICCBased simplePDObject, int op, boolean overprintingFlag) {
-		super(simplePDObject, ICC_BASED_CMYK_TYPE);
+		this(simplePDObject, op, overprintingFlag, null);
+	}
+
+	public PBoxPDICCBasedCMYK(PDICCBased simplePDObject, int op, boolean overprintingFlag, PDDocument document) {
+		super(simplePDObject, ICC_BASED_CMYK_TYPE, document);
 		this.opm = Long.valueOf(op);
 		this.overprintingFlag = Boolean.valueOf(overprintingFlag);
 	}
@@ -23,13 +23,12 @@ package org.verapdf.model.impl.pb.pd.colors;
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
-import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.PDSeparation;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosUnicodeName;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.SeparationIndex;
 import org.verapdf.model.impl.pb.cos.PBCosUnicodeName;
 import org.verapdf.model.impl.pb.pd.functions.PBoxPDFunction;
 import org.verapdf.model.pdlayer.PDColorSpace;
@@ -57,23 +56,14 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 	private final PDDocument document;
 	private final PDFAFlavour flavour;
 
-	private COSArray colorSpace;
-
 	public PBoxPDSeparation(
 			PDSeparation simplePDObject, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, SEPARATION_TYPE);
 		this.document = document;
 		this.flavour = flavour;
 
-		this.colorSpace = (COSArray) simplePDObject.getCOSObject();
-
-		if (StaticContainers.getSeparations().containsKey(simplePDObject.getColorantName())) {
-			StaticContainers.getSeparations().get(simplePDObject.getColorantName()).add(this);
-		} else {
-			final List<PBoxPDSeparation> separationList = new ArrayList<>();
-			separationList.add(this);
-			StaticContainers.getSeparations().put(simplePDObject.getColorantName(), separationList);
-		}
+		SeparationIndex.of(document).register(simplePDObject.getColorantName(),
+				(COSArray) simplePDObject.getCOSObject());
 	}
 
 	@Override
@@ -91,39 +81,7 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 	@Override
 	public Boolean getareTintAndAlternateConsistent() {
 		String name = ((PDSeparation) simplePDObject).getColorantName();
-
-		if (StaticContainers.getInconsistentSeparations().contains(name)) {
-			return Boolean.FALSE;
-		}
-
-		if (StaticContainers.getSeparations().get(name).size() > 1) {
-			for (PBoxPDSeparation pBoxPDSeparation : StaticContainers.getSeparations().get(name)) {
-				if (pBoxPDSeparation.equals(this)) {
-					continue;
-				}
-
-				COSArray toCompare = pBoxPDSeparation.colorSpace;
-				COSBase alternateSpaceToCompare = unwrapObject(toCompare.get(2));
-				COSBase tintTransformToCompare = unwrapObject(toCompare.get(3));
-
-				COSBase alternateSpaceCurrent = unwrapObject(colorSpace.get(2));
-				COSBase tintTransformCurrent = unwrapObject(colorSpace.get(3));
-
-				if (!alternateSpaceToCompare.equals(alternateSpaceCurrent) || !tintTransformToCompare.equals(tintTransformCurrent)) {
-					StaticContainers.getInconsistentSeparations().add(name);
-					return Boolean.FALSE;
-				}
-			}
-		}
-
-		return Boolean.TRUE;
-	}
-
-	private static COSBase unwrapObject(COSBase object) {
-		if (object instanceof COSObject) {
-			return ((COSObject) object).getObject();
-		}
-		return object;
+		return Boolean.valueOf(SeparationIndex.of(this.document).isConsistent(name));
 	}
 
 	@Override
@@ -32,6 +32,7 @@ import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.pdlayer.PDCIDFont;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -81,39 +82,83 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 
 	@Override
 	public Boolean getcidSetListsAllGlyphs() {
-			PDStream cidSet = getCIDSetStream();
-			if (cidSet == null) {
-				return Boolean.TRUE;
-			}
-			try {
-				InputStream stream = ((COSStream) cidSet.getCOSObject()).getUnfilteredStream();
-				int length = cidSet.getLength();
-				byte[] cidSetBytes = getCIDsFromCIDSet(stream, length);
-
-				// reverse bit order in bit set (convert to big endian)
-				BitSet bitSet = toBitSetBigEndian(cidSetBytes);
-
-				org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont = (org.apache.pdfbox.pdmodel.font.PDCIDFont) this.pdFontLike;
-				for (int i = 1; i < bitSet.size(); i++) {
-					if (bitSet.get(i) && !cidFont.hasGlyph(i)) {
-						return Boolean.FALSE;
-					}
-				}
-				if (flavour.getPart() != PDFAFlavour.Specification.ISO_19005_1) {
-					// on this levels we need to ensure that all glyphs
-					// present
-					// in font program are described in cid set
-					for (int i = 1; i < bitSet.size(); ++i) {
-						if (!bitSet.get(i) && cidFont.hasGlyph(i)) {
-							return Boolean.FALSE;
-						}
+		PDStream cidSet = getCIDSetStream();
+		if (cidSet == null) {
+			return Boolean.TRUE;
+		}
+		org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont = (org.apache.pdfbox.pdmodel.font.PDCIDFont) this.pdFontLike;
+		// starting from PDF/A-2 all glyphs present in font program
+		// have to be described in cid set as well
+		boolean checksFontGlyphs = this.flavour == null
+				|| this.flavour.getPart() != PDFAFlavour.Specification.ISO_19005_1;
+		if (this.pdDocument == null) {
+			return Boolean.valueOf(isCIDSetComplete(cidSet, cidFont, checksFontGlyphs));
+		}
+		// glyph presence depends on the parent CMap, so result is bound to Type0 font
+		COSBase fontDictionary = cidFont.getParent() != null ?
+				cidFont.getParent().getCOSObject() : cidFont.getCOSObject();
+		ValidationContext context = ValidationContext.of(this.pdDocument);
+		Boolean result = context.getCIDSetListsAllGlyphs(fontDictionary, checksFontGlyphs);
+		if (result == null) {
+			result = Boolean.valueOf(isCIDSetComplete(cidSet, cidFont, checksFontGlyphs));
+			context.setCIDSetListsAllGlyphs(fontDictionary, checksFontGlyphs, result);
+		}
+		return result;
+	}
+
+	private static boolean isCIDSetComplete(PDStream cidSet, org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont,
+											boolean checksFontGlyphs) {
+		try {
+			InputStream stream = ((COSStream) cidSet.getCOSObject()).getUnfilteredStream();
+			int length = cidSet.getLength();
+			byte[] cidSetBytes = getCIDsFromCIDSet(stream, length);
+
+			// reverse bit order in bit set (convert to big endian)
+			BitSet bitSet = toBitSetBigEndian(cidSetBytes);
+
+			if (!checksFontGlyphs) {
+				// only CIDs listed in cid set are looked up in font program
+				for (int i = bitSet.nextSetBit(1); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+					if (!cidFont.hasGlyph(i)) {
+						return false;
 					}
 				}
+				return true;
+			}
+
+			BitSet glyphs = getPresentGlyphs(cidFont, bitSet.size());
+			// CID 0 is not checked
+			BitSet missingGlyphs = (BitSet) bitSet.clone();
+			missingGlyphs.andNot(glyphs);
+			missingGlyphs.clear(0);
+			if (!missingGlyphs.isEmpty()) {
+				return false;
+			}
+			glyphs.andNot(bitSet);
+			glyphs.clear(0);
+			if (!glyphs.isEmpty()) {
+				return false;
+			}
 		} catch (IOException e) {
 			LOGGER.debug("Error while parsing embedded font program. " + e.getMessage(), e);
-			return Boolean.FALSE;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return bit set of CIDs below {@code size} which have glyphs in the
+	 *         font program
+	 */
+	private static BitSet getPresentGlyphs(org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont, int size)
+			throws IOException {
+		BitSet glyphs = new BitSet(size);
+		for (int i = 1; i < size; i++) {
+			if (cidFont.hasGlyph(i)) {
+				glyphs.set(i);
+			}
 		}
-		return Boolean.TRUE;
+		return glyphs;
 	}
 
 	@Override
@@ -50,12 +50,11 @@ public abstract class PBoxPDFont extends PBoxPDResource implements PDFont {
 	public static final String BASE_FONT = "BaseFont";
 
 	protected final RenderingMode renderingMode;
-	private final String id;
+	private String id;
 
 	protected PBoxPDFont(PDFontLike font, RenderingMode renderingMode, final String type) {
 		super(font, type);
 		this.renderingMode = renderingMode;
-		this.id = IDGenerator.generateID(font);
 	}
 
 	@Override
@@ -79,6 +78,9 @@ public abstract class PBoxPDFont extends PBoxPDResource implements PDFont {
 
 	@Override
 	public String getID() {
+		if (this.id == null && this.pdFontLike != null) {
+			this.id = IDGenerator.generateID(this.pdFontLike);
+		}
 		return this.id;
 	}
 
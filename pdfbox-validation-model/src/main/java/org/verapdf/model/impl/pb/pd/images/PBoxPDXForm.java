@@ -28,7 +28,7 @@ import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.verapdf.model.baselayer.Object;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.impl.pb.pd.PBoxPDGroup;
 import org.verapdf.model.pdlayer.PDContentStream;
@@ -41,6 +41,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Evgeniy Muravitskiy
@@ -104,13 +105,14 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 			return true;
 		}
 		COSObjectKey key = this.simplePDObject.getCOSObject().getKey();
-		if (key == null) {
+		if (key == null || this.document == null) {
 			return true;
 		}
-		if (StaticContainers.getXFormKeysSet().contains(key)) {
+		Set<COSObjectKey> xFormKeys = ValidationContext.of(this.document).getXFormKeysSet();
+		if (xFormKeys.contains(key)) {
 			return false;
 		}
-		StaticContainers.getXFormKeysSet().add(key);
+		xFormKeys.add(key);
 		return true;
 
 	}
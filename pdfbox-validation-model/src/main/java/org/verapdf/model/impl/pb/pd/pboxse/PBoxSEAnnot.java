@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEAnnot;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEAnnot extends PBoxSEGeneral implements SEAnnot {
 
     public static final String ANNOT_STRUCTURE_ELEMENT_TYPE = "SEAnnot";
 
-    public PBoxSEAnnot(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.ANNOT, ANNOT_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEAnnot(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.ANNOT, ANNOT_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEArt;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEArt extends PBoxSEGeneral implements SEArt {
 
     public static final String ART_STRUCTURE_ELEMENT_TYPE = "SEArt";
 
-    public PBoxSEArt(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.ART, ART_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEArt(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.ART, ART_STRUCTURE_ELEMENT_TYPE);
     }
 }
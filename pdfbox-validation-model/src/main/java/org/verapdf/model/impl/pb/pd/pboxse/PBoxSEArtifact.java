@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEArtifact;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEArtifact extends PBoxSEGeneral implements SEArtifact {
 
     public static final String ARTIFACT_STRUCTURE_ELEMENT_TYPE = "SEArtifact";
 
-    public PBoxSEArtifact(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.ARTIFACT, ARTIFACT_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEArtifact(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.ARTIFACT, ARTIFACT_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEAside;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEAside extends PBoxSEGeneral implements SEAside {
 
     public static final String ASIDE_STRUCTURE_ELEMENT_TYPE = "SEAside";
 
-    public PBoxSEAside(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.ASIDE, ASIDE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEAside(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.ASIDE, ASIDE_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEBibEntry;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEBibEntry extends PBoxSEGeneral implements SEBibEntry {
 
     public static final String BIB_ENTRY_STRUCTURE_ELEMENT_TYPE = "SEBibEntry";
 
-    public PBoxSEBibEntry(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.BIB_ENTRY, BIB_ENTRY_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEBibEntry(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.BIB_ENTRY, BIB_ENTRY_STRUCTURE_ELEMENT_TYPE);
     }
 }
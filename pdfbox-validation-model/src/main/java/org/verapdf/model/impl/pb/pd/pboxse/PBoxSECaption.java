@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SECaption;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSECaption extends PBoxSEGeneral implements SECaption {
 
     public static final String CAPTION_STRUCTURE_ELEMENT_TYPE = "SECaption";
 
-    public PBoxSECaption(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.CAPTION, CAPTION_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSECaption(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.CAPTION, CAPTION_STRUCTURE_ELEMENT_TYPE);
     }
 }
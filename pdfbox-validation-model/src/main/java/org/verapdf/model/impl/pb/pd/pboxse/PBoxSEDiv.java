@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEDiv;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEDiv extends PBoxSEGeneral implements SEDiv {
 
     public static final String DIV_STRUCTURE_ELEMENT_TYPE = "SEDiv";
 
-    public PBoxSEDiv(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.DIV, DIV_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEDiv(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.DIV, DIV_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEDocument;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEDocument extends PBoxSEGeneral implements SEDocument {
 
     public static final String DOCUMENT_STRUCTURE_ELEMENT_TYPE = "SEDocument";
 
-    public PBoxSEDocument(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.DOCUMENT, DOCUMENT_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEDocument(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.DOCUMENT, DOCUMENT_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEFENote;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEFENote extends PBoxSEGeneral implements SEFENote {
 
     public static final String FENOTE_STRUCTURE_ELEMENT_TYPE = "SEFENote";
 
-    public PBoxSEFENote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.FENOTE, FENOTE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEFENote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.FENOTE, FENOTE_STRUCTURE_ELEMENT_TYPE);
     }
 }
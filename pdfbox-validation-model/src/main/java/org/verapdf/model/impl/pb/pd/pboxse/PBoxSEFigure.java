@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEFigure;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEFigure extends PBoxSEGeneral implements SEFigure {
 
     public static final String FIGURE_STRUCTURE_ELEMENT_TYPE = "SEFigure";
 
-    public PBoxSEFigure(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.FIGURE, FIGURE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEFigure(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.FIGURE, FIGURE_STRUCTURE_ELEMENT_TYPE);
     }
 }
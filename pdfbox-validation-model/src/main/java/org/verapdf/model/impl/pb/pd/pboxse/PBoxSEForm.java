@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEForm;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,8 +30,8 @@ public class PBoxSEForm extends PBoxSEGeneral implements SEForm {
 
     public static final String FORM_STRUCTURE_ELEMENT_TYPE = "SEForm";
 
-    public PBoxSEForm(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.FORM, FORM_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEForm(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.FORM, FORM_STRUCTURE_ELEMENT_TYPE);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.PBoxPDStructElem;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,126 +30,133 @@ public abstract class PBoxSEGeneral extends PBoxPDStructElem {
 
     private final String standardType;
 
-    protected PBoxSEGeneral(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, String standardType, String type) {
-        super(structElemDictionary, roleMapHelper, type);
+    protected PBoxSEGeneral(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document, String standardType, String type) {
+        super(structElemDictionary, roleMapHelper, document, type);
         this.standardType = standardType;
     }
 
-    public static PBoxSEGeneral createTypedStructElem(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper){
+    public static PBoxSEGeneral createTypedStructElem(COSDictionary structElemDictionary, PBoxPDStructElem parent,
+                                                      TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        PBoxSEGeneral structElem = createTypedStructElem(structElemDictionary, roleMapHelper, document);
+        structElem.setStructParent(parent);
+        return structElem;
+    }
+
+    public static PBoxSEGeneral createTypedStructElem(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document){
         String standardType = PBoxPDStructElem.getStructureElementStandardType(structElemDictionary, roleMapHelper);
 
         if (standardType == null) {
-            return new PBoxSENonStandard(structElemDictionary, roleMapHelper, null);
+            return new PBoxSENonStandard(structElemDictionary, roleMapHelper, document, null);
         }
 
         switch (standardType) {
             case TaggedPDFConstants.ANNOT:
-                return new PBoxSEAnnot(structElemDictionary, roleMapHelper);
+                return new PBoxSEAnnot(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.ART:
-                return new PBoxSEArt(structElemDictionary, roleMapHelper);
+                return new PBoxSEArt(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.ARTIFACT:
-                return new PBoxSEArtifact(structElemDictionary, roleMapHelper);
+                return new PBoxSEArtifact(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.ASIDE:
-                return new PBoxSEAside(structElemDictionary, roleMapHelper);
+                return new PBoxSEAside(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.BIB_ENTRY:
-                return new PBoxSEBibEntry(structElemDictionary, roleMapHelper);
+                return new PBoxSEBibEntry(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.BLOCK_QUOTE:
-                return new PBoxSEBlockQuote(structElemDictionary, roleMapHelper);
+                return new PBoxSEBlockQuote(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.CAPTION:
-                return new PBoxSECaption(structElemDictionary, roleMapHelper);
+                return new PBoxSECaption(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.CODE:
-                return new PBoxSECode(structElemDictionary, roleMapHelper);
+                return new PBoxSECode(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.DIV:
-                return new PBoxSEDiv(structElemDictionary, roleMapHelper);
+                return new PBoxSEDiv(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.DOCUMENT:
-                return new PBoxSEDocument(structElemDictionary, roleMapHelper);
+                return new PBoxSEDocument(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.DOCUMENT_FRAGMENT:
-                return new PBoxSEDocumentFragment(structElemDictionary, roleMapHelper);
+                return new PBoxSEDocumentFragment(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.EM:
-                return new PBoxSEEm(structElemDictionary, roleMapHelper);
+                return new PBoxSEEm(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.FENOTE:
-                return new PBoxSEFENote(structElemDictionary, roleMapHelper);
+                return new PBoxSEFENote(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.FIGURE:
-                return new PBoxSEFigure(structElemDictionary, roleMapHelper);
+                return new PBoxSEFigure(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.FORM:
-                return new PBoxSEForm(structElemDictionary, roleMapHelper);
+                return new PBoxSEForm(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.FORMULA:
-                return new PBoxSEFormula(structElemDictionary, roleMapHelper);
+                return new PBoxSEFormula(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.H:
-                return new PBoxSEH(structElemDictionary, roleMapHelper);
+                return new PBoxSEH(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.INDEX:
-                return new PBoxSEIndex(structElemDictionary, roleMapHelper);
+                return new PBoxSEIndex(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.L:
-                return new PBoxSEL(structElemDictionary, roleMapHelper);
+                return new PBoxSEL(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.LBL:
-                return new PBoxSELbl(structElemDictionary, roleMapHelper);
+                return new PBoxSELbl(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.LBODY:
-                return new PBoxSELBody(structElemDictionary, roleMapHelper);
+                return new PBoxSELBody(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.LI:
-                return new PBoxSELI(structElemDictionary, roleMapHelper);
+                return new PBoxSELI(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.LINK:
-                return new PBoxSELink(structElemDictionary, roleMapHelper);
+                return new PBoxSELink(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.NON_STRUCT:
-                return new PBoxSENonStruct(structElemDictionary, roleMapHelper);
+                return new PBoxSENonStruct(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.NOTE:
-                return new PBoxSENote(structElemDictionary, roleMapHelper);
+                return new PBoxSENote(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.P:
-                return new PBoxSEP(structElemDictionary, roleMapHelper);
+                return new PBoxSEP(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.PART:
-                return new PBoxSEPart(structElemDictionary, roleMapHelper);
+                return new PBoxSEPart(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.PRIVATE:
-                return new PBoxSEPrivate(structElemDictionary, roleMapHelper);
+                return new PBoxSEPrivate(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.QUOTE:
-                return new PBoxSEQuote(structElemDictionary, roleMapHelper);
+                return new PBoxSEQuote(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.RB:
-                return new PBoxSERB(structElemDictionary, roleMapHelper);
+                return new PBoxSERB(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.REFERENCE:
-                return new PBoxSEReference(structElemDictionary, roleMapHelper);
+                return new PBoxSEReference(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.RP:
-                return new PBoxSERP(structElemDictionary, roleMapHelper);
+                return new PBoxSERP(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.RT:
-                return new PBoxSERT(structElemDictionary, roleMapHelper);
+                return new PBoxSERT(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.RUBY:
-                return new PBoxSERuby(structElemDictionary, roleMapHelper);
+                return new PBoxSERuby(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.SECT:
-                return new PBoxSESect(structElemDictionary, roleMapHelper);
+                return new PBoxSESect(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.SPAN:
-                return new PBoxSESpan(structElemDictionary, roleMapHelper);
+                return new PBoxSESpan(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.STRONG:
-                return new PBoxSEStrong(structElemDictionary, roleMapHelper);
+                return new PBoxSEStrong(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.SUB:
-                return new PBoxSESub(structElemDictionary, roleMapHelper);
+                return new PBoxSESub(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TABLE:
-                return new PBoxSETable(structElemDictionary, roleMapHelper);
+                return new PBoxSETable(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TBODY:
-                return new PBoxSETBody(structElemDictionary, roleMapHelper);
+                return new PBoxSETBody(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TD:
-                return new PBoxSETD(structElemDictionary, roleMapHelper);
+                return new PBoxSETD(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TFOOT:
-                return new PBoxSETFoot(structElemDictionary, roleMapHelper);
+                return new PBoxSETFoot(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TH:
-                return new PBoxSETH(structElemDictionary, roleMapHelper);
+                return new PBoxSETH(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.THEAD:
-                return new PBoxSETHead(structElemDictionary, roleMapHelper);
+                return new PBoxSETHead(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TITLE:
-                return new PBoxSETitle(structElemDictionary, roleMapHelper);
+                return new PBoxSETitle(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TOC:
-                return new PBoxSETOC(structElemDictionary, roleMapHelper);
+                return new PBoxSETOC(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TOCI:
-                return new PBoxSETOCI(structElemDictionary, roleMapHelper);
+                return new PBoxSETOCI(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.TR:
-                return new PBoxSETR(structElemDictionary, roleMapHelper);
+                return new PBoxSETR(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.WARICHU:
-                return new PBoxSEWarichu(structElemDictionary, roleMapHelper);
+                return new PBoxSEWarichu(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.WP:
-                return new PBoxSEWP(structElemDictionary, roleMapHelper);
+                return new PBoxSEWP(structElemDictionary, roleMapHelper, document);
             case TaggedPDFConstants.WT:
-                return new PBoxSEWT(structElemDictionary, roleMapHelper);
+                return new PBoxSEWT(structElemDictionary, roleMapHelper, document);
             default:
                 if (standardType.matches(TaggedPDFConstants.HN_REGEXP)) {
-                    return new PBoxSEHn(structElemDictionary, roleMapHelper, standardType);
+                    return new PBoxSEHn(structElemDictionary, roleMapHelper, document, standardType);
                 } else {
-                    return new PBoxSENonStandard(structElemDictionary, roleMapHelper, standardType);
+                    return new PBoxSENonStandard(structElemDictionary, roleMapHelper, document, standardType);
                 }
         }
     }
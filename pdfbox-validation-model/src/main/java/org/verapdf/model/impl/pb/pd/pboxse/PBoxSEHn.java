@@ -21,7 +21,8 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.selayer.SEHn;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
 
@@ -29,18 +30,19 @@ public class PBoxSEHn extends PBoxSEGeneral implements SEHn {
 
     public static final String HN_STRUCTURE_ELEMENT_TYPE = "SEHn";
 
-    public PBoxSEHn(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, String standardType) {
-        super(structElemDictionary, roleMapHelper, standardType, HN_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEHn(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document, String standardType) {
+        super(structElemDictionary, roleMapHelper, document, standardType, HN_STRUCTURE_ELEMENT_TYPE);
     }
 
     @Override
     public Boolean gethasCorrectNestingLevel() {
         int nestingLevel = new Integer(getstandardType().substring(1));
-        if (nestingLevel > StaticContainers.getLastHeadingNestingLevel() + 1) {
-            StaticContainers.setLastHeadingNestingLevel(nestingLevel);
+        ValidationContext context = ValidationContext.of(this.document);
+        if (nestingLevel > context.getLastHeadingNestingLevel() + 1) {
+            context.setLastHeadingNestingLevel(nestingLevel);
             return false;
         }
-        StaticContainers.setLastHeadingNestingLevel(nestingLevel);
+        context.setLastHeadingNestingLevel(nestingLevel);
         return true;
     }
 }
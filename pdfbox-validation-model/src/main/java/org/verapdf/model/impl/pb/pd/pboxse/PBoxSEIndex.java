@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEIndex;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEIndex extends PBoxSEGeneral implements SEIndex {
 
     public static final String INDEX_STRUCTURE_ELEMENT_TYPE = "SEIndex";
 
-    public PBoxSEIndex(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.INDEX, INDEX_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEIndex(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.INDEX, INDEX_STRUCTURE_ELEMENT_TYPE);
     }
 }
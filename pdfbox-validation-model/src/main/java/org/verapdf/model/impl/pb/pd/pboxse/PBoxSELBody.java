@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SELBody;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSELBody extends PBoxSEGeneral implements SELBody {
 
     public static final String LBODY_STRUCTURE_ELEMENT_TYPE = "SELBody";
 
-    public PBoxSELBody(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.LBODY, LBODY_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSELBody(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.LBODY, LBODY_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SELbl;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSELbl extends PBoxSEGeneral implements SELbl {
 
     public static final String LBL_STRUCTURE_ELEMENT_TYPE = "SELbl";
 
-    public PBoxSELbl(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.LBL, LBL_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSELbl(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.LBL, LBL_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.selayer.SENonStandard;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
 
@@ -28,7 +29,7 @@ public class PBoxSENonStandard extends PBoxSEGeneral implements SENonStandard {
 
     public static final String NON_STANDARD_STRUCTURE_ELEMENT_TYPE = "SENonStandard";
 
-    public PBoxSENonStandard(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, String standardType) {
-        super(structElemDictionary, roleMapHelper, standardType, NON_STANDARD_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSENonStandard(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document, String standardType) {
+        super(structElemDictionary, roleMapHelper, document, standardType, NON_STANDARD_STRUCTURE_ELEMENT_TYPE);
     }
 }
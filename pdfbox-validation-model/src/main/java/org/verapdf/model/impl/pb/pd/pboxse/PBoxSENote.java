@@ -22,7 +22,8 @@ package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SENote;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -35,11 +36,11 @@ public class PBoxSENote extends PBoxSEGeneral implements SENote {
 
     public boolean hasDuplicateNoteID;
 
-    public PBoxSENote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.NOTE, NOTE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSENote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.NOTE, NOTE_STRUCTURE_ELEMENT_TYPE);
         noteID = this.simplePDObject == null ? null : ((COSDictionary)simplePDObject.getCOSObject()).getString(COSName.ID);
         if (noteID != null) {
-            hasDuplicateNoteID = !StaticContainers.getNoteIDSet().add(noteID);
+            hasDuplicateNoteID = !ValidationContext.of(document).getNoteIDSet().add(noteID);
         }
     }
 
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEQuote;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEQuote extends PBoxSEGeneral implements SEQuote {
 
     public static final String QUOTE_STRUCTURE_ELEMENT_TYPE = "SEQuote";
 
-    public PBoxSEQuote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.QUOTE, QUOTE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEQuote(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.QUOTE, QUOTE_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SERuby;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSERuby extends PBoxSEGeneral implements SERuby {
 
     public static final String RUBY_STRUCTURE_ELEMENT_TYPE = "SERuby";
 
-    public PBoxSERuby(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.RUBY, RUBY_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSERuby(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.RUBY, RUBY_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SESpan;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSESpan extends PBoxSEGeneral implements SESpan {
 
     public static final String SPAN_STRUCTURE_ELEMENT_TYPE = "SESpan";
 
-    public PBoxSESpan(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.SPAN, SPAN_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSESpan(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.SPAN, SPAN_STRUCTURE_ELEMENT_TYPE);
     }
 }
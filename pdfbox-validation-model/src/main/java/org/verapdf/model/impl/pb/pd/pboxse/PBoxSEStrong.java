@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEStrong;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEStrong extends PBoxSEGeneral implements SEStrong {
 
     public static final String STRONG_STRUCTURE_ELEMENT_TYPE = "SEStrong";
 
-    public PBoxSEStrong(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.STRONG, STRONG_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEStrong(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.STRONG, STRONG_STRUCTURE_ELEMENT_TYPE);
     }
 }
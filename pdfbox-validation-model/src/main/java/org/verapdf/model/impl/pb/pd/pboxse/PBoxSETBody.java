@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETBody;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSETBody extends PBoxSEGeneral implements SETBody {
 
     public static final String TBODY_STRUCTURE_ELEMENT_TYPE = "SETBody";
 
-    public PBoxSETBody(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TBODY, TBODY_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETBody(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TBODY, TBODY_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.*;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETD;
 import org.verapdf.model.tools.TableHelper;
@@ -34,8 +35,8 @@ public class PBoxSETD extends PBoxSEGeneral implements SETD {
 
     public static final String TD_STRUCTURE_ELEMENT_TYPE = "SETD";
 
-    public PBoxSETD(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TD, TD_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETD(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TD, TD_STRUCTURE_ELEMENT_TYPE);
     }
 
     protected List<String> getHeaders() {
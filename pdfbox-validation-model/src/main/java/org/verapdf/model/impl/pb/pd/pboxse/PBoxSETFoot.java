@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETFoot;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSETFoot extends PBoxSEGeneral implements SETFoot {
 
     public static final String TFOOT_STRUCTURE_ELEMENT_TYPE = "SETFoot";
 
-    public PBoxSETFoot(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TFOOT, TFOOT_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETFoot(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TFOOT, TFOOT_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.*;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETH;
 import org.verapdf.model.tools.TableHelper;
@@ -34,8 +35,8 @@ public class PBoxSETH extends PBoxSEGeneral implements SETH {
 
     public static final String TH_STRUCTURE_ELEMENT_TYPE = "SETH";
 
-    public PBoxSETH(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TH, TH_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETH(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TH, TH_STRUCTURE_ELEMENT_TYPE);
     }
 
     protected String getTHID() {
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETHead;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSETHead extends PBoxSEGeneral implements SETHead {
 
     public static final String THEAD_STRUCTURE_ELEMENT_TYPE = "SETHead";
 
-    public PBoxSETHead(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.THEAD, THEAD_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETHead(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.THEAD, THEAD_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETOCI;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSETOCI extends PBoxSEGeneral implements SETOCI {
 
     public static final String TOCI_STRUCTURE_ELEMENT_TYPE = "SETOCI";
 
-    public PBoxSETOCI(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TOCI, TOCI_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETOCI(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TOCI, TOCI_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SETitle;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSETitle extends PBoxSEGeneral implements SETitle {
 
     public static final String TITLE_STRUCTURE_ELEMENT_TYPE = "SETitle";
 
-    public PBoxSETitle(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.TITLE, TITLE_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSETitle(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.TITLE, TITLE_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.pd.pboxse;
 
 import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.TaggedPDFConstants;
 import org.verapdf.model.selayer.SEWarichu;
 import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
@@ -29,7 +30,7 @@ public class PBoxSEWarichu extends PBoxSEGeneral implements SEWarichu {
 
     public static final String WARICHU_STRUCTURE_ELEMENT_TYPE = "SEWarichu";
 
-    public PBoxSEWarichu(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper) {
-        super(structElemDictionary, roleMapHelper, TaggedPDFConstants.WARICHU, WARICHU_STRUCTURE_ELEMENT_TYPE);
+    public PBoxSEWarichu(COSDictionary structElemDictionary, TaggedPDFRoleMapHelper roleMapHelper, PDDocument document) {
+        super(structElemDictionary, roleMapHelper, document, TaggedPDFConstants.WARICHU, WARICHU_STRUCTURE_ELEMENT_TYPE);
     }
 }
@@ -51,8 +51,8 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
     public static final String CONTENTS = "Contents";
     public static final String REFERENCE = "Reference";
 
-    protected static byte[] contents;
-    protected long signatureOffset;
+    protected final byte[] contents;
+    protected final long signatureOffset;
 
     /**
      * @param pdSignature {@link org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature}
@@ -65,7 +65,7 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
         this.document = document;
         COSObjectKey key = new COSObjectKey(signatureReference);
         signatureOffset = (this.document.getDocument().getXrefTable().get(key)).longValue();
-        contents = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
+        this.contents = ((org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature)
                 this.simplePDObject).getContents();
     }
 
@@ -106,10 +106,10 @@ public class PBoxPDSignature extends PBoxPDObject implements PDSignature {
         }
     }
 
-    private static List<PKCSDataObject> getContents() {
-        if (contents != null) {
+    private List<PKCSDataObject> getContents() {
+        if (this.contents != null) {
             List<PKCSDataObject> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-            list.add(new PBoxPKCSDataObject(new COSString(contents)));
+            list.add(new PBoxPKCSDataObject(new COSString(this.contents)));
             return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
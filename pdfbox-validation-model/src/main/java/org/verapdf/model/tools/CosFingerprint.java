@@ -0,0 +1,147 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSBoolean;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds canonical string description of pdf box objects, so that objects
+ * with the same content get equal fingerprints. Indirect arrays, dictionaries
+ * and streams are described by their object keys, direct arrays and
+ * dictionaries by their content with dictionary keys sorted.
+ * <p>
+ * Objects, which can not be described by content, such as direct streams
+ * or objects nested too deep, get a token unique within this instance, so
+ * they are equal only to themselves. Such objects are kept by the instance,
+ * which therefore has the same scope as fingerprints it creates.
+ */
+public final class CosFingerprint {
+
+	// direct objects nested deeper are equal only to themselves
+	private static final int MAX_DEPTH = 32;
+
+	private final Map<COSBase, Long> tokens = new IdentityHashMap<>();
+	private long nextToken = 0;
+
+	/**
+	 * @param object pdf box object, may be {@code null}
+	 * @return fingerprint of the given object
+	 */
+	public String of(COSBase object) {
+		StringBuilder builder = new StringBuilder();
+		append(builder, object, 0);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends fingerprint of the given object to the builder
+	 *
+	 * @param builder builder to append to
+	 * @param object  pdf box object, may be {@code null}
+	 */
+	public void append(StringBuilder builder, COSBase object) {
+		append(builder, object, 0);
+	}
+
+	/**
+	 * Forgets objects with identity tokens. Tokens are never reused, so
+	 * fingerprints created before do not match the ones created after.
+	 */
+	public synchronized void clear() {
+		this.tokens.clear();
+	}
+
+	private void append(StringBuilder builder, COSBase base, int depth) {
+		COSBase object = base;
+		if (base instanceof COSObject) {
+			object = ((COSObject) base).getObject();
+			if (object instanceof COSArray || object instanceof COSDictionary) {
+				appendKey(builder, new COSObjectKey((COSObject) base));
+				return;
+			}
+		} else if (base != null && base.getKey() != null
+				&& (base instanceof COSArray || base instanceof COSDictionary)) {
+			appendKey(builder, base.getKey());
+			return;
+		}
+		if (object == null) {
+			builder.append("null");
+		} else if (object instanceof COSName) {
+			builder.append('/').append(((COSName) object).getName());
+		} else if (object instanceof COSInteger) {
+			builder.append(((COSInteger) object).longValue());
+		} else if (object instanceof COSFloat) {
+			builder.append(((COSFloat) object).floatValue());
+		} else if (object instanceof COSBoolean) {
+			builder.append(((COSBoolean) object).getValue());
+		} else if (object instanceof COSString) {
+			builder.append('<').append(((COSString) object).toHexString()).append('>');
+		} else if (depth < MAX_DEPTH && object instanceof COSArray) {
+			builder.append('[');
+			for (COSBase element : (COSArray) object) {
+				append(builder, element, depth + 1);
+				builder.append(' ');
+			}
+			builder.append(']');
+		} else if (depth < MAX_DEPTH && object instanceof COSDictionary && !(object instanceof COSStream)) {
+			Map<String, COSBase> entries = new TreeMap<>();
+			for (Map.Entry<COSName, COSBase> entry : ((COSDictionary) object).entrySet()) {
+				entries.put(entry.getKey().getName(), entry.getValue());
+			}
+			builder.append("<<");
+			for (Map.Entry<String, COSBase> entry : entries.entrySet()) {
+				builder.append('/').append(entry.getKey()).append(' ');
+				append(builder, entry.getValue(), depth + 1);
+				builder.append(' ');
+			}
+			builder.append(">>");
+		} else {
+			builder.append('@').append(getToken(object));
+		}
+	}
+
+	private synchronized long getToken(COSBase object) {
+		Long token = this.tokens.get(object);
+		if (token == null) {
+			token = Long.valueOf(this.nextToken++);
+			this.tokens.put(object, token);
+		}
+		return token.longValue();
+	}
+
+	private static void appendKey(StringBuilder builder, COSObjectKey key) {
+		builder.append(key.getNumber()).append(' ').append(key.getGeneration()).append(" R");
+	}
+}
@@ -21,6 +21,7 @@
 package org.verapdf.model.tools;
 
 import org.apache.pdfbox.cos.*;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.impl.pb.pd.PBoxPDStructElem;
 import org.verapdf.model.impl.pb.pd.pboxse.PBoxSEGeneral;
 import org.verapdf.model.pdlayer.PDStructElem;
@@ -43,13 +44,22 @@ public class TaggedPDFHelper {
 	}
 
 	public static List<PDStructElem> getStructTreeRootChildren(COSDictionary parent,
-															   TaggedPDFRoleMapHelper roleMapHelper) {
-		return getChildren(parent, roleMapHelper, false);
+															   TaggedPDFRoleMapHelper roleMapHelper,
+															   PDDocument document) {
+		return getChildren(parent, null, roleMapHelper, document, false);
 	}
 
-	public static List<PDStructElem> getStructElemChildren(COSDictionary parent,
-														   TaggedPDFRoleMapHelper roleMapHelper) {
-		return getChildren(parent, roleMapHelper, true);
+	/**
+	 * Get all structure elements of the given one. Created children take
+	 * inherited values from {@code parent} instead of walking up the tree.
+	 *
+	 * @param parent parent structure element
+	 * @return list of structure elements
+	 */
+	public static List<PDStructElem> getStructElemChildren(PBoxPDStructElem parent,
+														   TaggedPDFRoleMapHelper roleMapHelper,
+														   PDDocument document) {
+		return getChildren(parent.getStructElemDictionary(), parent, roleMapHelper, document, true);
 	}
 
 	public static List<String> getStructElemChildrenStandardTypes(COSDictionary parent,
@@ -63,15 +73,17 @@ public class TaggedPDFHelper {
 	 * @param parent parent dictionary
 	 * @return list of structure elements
 	 */
-	private static List<PDStructElem> getChildren(COSDictionary parent, TaggedPDFRoleMapHelper roleMapHelper, boolean checkType) {
+	private static List<PDStructElem> getChildren(COSDictionary parent, PBoxPDStructElem parentElem,
+												  TaggedPDFRoleMapHelper roleMapHelper, PDDocument document,
+												  boolean checkType) {
 		COSBase children = parent.getDictionaryObject(COSName.K);
 		if (children != null) {
 			if (children instanceof COSDictionary && isStructElem((COSDictionary) children, checkType)) {
 				List<PDStructElem> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(PBoxSEGeneral.createTypedStructElem((COSDictionary) children, roleMapHelper));
+				list.add(PBoxSEGeneral.createTypedStructElem((COSDictionary) children, parentElem, roleMapHelper, document));
 				return Collections.unmodifiableList(list);
 			} else if (children instanceof COSArray) {
-				return getChildrenFromArray((COSArray) children, roleMapHelper, checkType);
+				return getChildrenFromArray((COSArray) children, parentElem, roleMapHelper, document, checkType);
 			}
 		}
 		return Collections.emptyList();
@@ -96,7 +108,9 @@ public class TaggedPDFHelper {
 	 * @param children array of children structure elements
 	 * @return list of structure elements
 	 */
-	private static List<PDStructElem> getChildrenFromArray(COSArray children, TaggedPDFRoleMapHelper roleMapHelper, boolean checkType) {
+	private static List<PDStructElem> getChildrenFromArray(COSArray children, PBoxPDStructElem parentElem,
+														   TaggedPDFRoleMapHelper roleMapHelper, PDDocument document,
+														   boolean checkType) {
 		if (children.size() > 0) {
 			List<PDStructElem> list = new ArrayList<>();
 			for (COSBase element : children) {
@@ -105,7 +119,8 @@ public class TaggedPDFHelper {
 					directElem = ((COSObject) directElem).getObject();
 				}
 				if (directElem instanceof COSDictionary && isStructElem((COSDictionary) directElem, checkType)) {
-					list.add(PBoxSEGeneral.createTypedStructElem((COSDictionary) directElem, roleMapHelper));
+					list.add(PBoxSEGeneral.createTypedStructElem((COSDictionary) directElem, parentElem, roleMapHelper,
+																 document));
 				}
 			}
 			return Collections.unmodifiableList(list);
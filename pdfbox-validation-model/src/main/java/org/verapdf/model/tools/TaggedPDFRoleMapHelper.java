@@ -29,8 +29,8 @@ import java.util.*;
  */
 public class TaggedPDFRoleMapHelper {
 
-	private static Set<String> PDF_1_4_STANDARD_ROLE_TYPES;
-	private static Set<String> PDF_1_7_STANDARD_ROLE_TYPES;
+	private static final Set<String> PDF_1_4_STANDARD_ROLE_TYPES;
+	private static final Set<String> PDF_1_7_STANDARD_ROLE_TYPES;
 
 	static {
 		Set<String> tempSet = new HashSet<>();
@@ -111,11 +111,16 @@ public class TaggedPDFRoleMapHelper {
 		PDF_1_7_STANDARD_ROLE_TYPES = new HashSet<>(tempSet);
 	}
 
-	private Map<String, String> roleMap;
-	private PDFAFlavour flavour;
+	private final Map<String, String> roleMap;
+	private final Set<String> currentStandardTypes;
+	private final boolean isFastStop;
+	// role map keys resolved to their standard types, null for unresolved ones
+	private final Map<String, String> standardTypes = new HashMap<>();
+	private final Set<String> circularTypes = new HashSet<>();
 
 	/**
-	 * Creates new TaggedPDFRoleMapHelper
+	 * Creates new TaggedPDFRoleMapHelper. Mapping of every custom type is
+	 * resolved here, so lookups do not follow role map chains.
 	 * 
 	 * @param roleMap
 	 *            role map from PDF
@@ -124,7 +129,21 @@ public class TaggedPDFRoleMapHelper {
 	 */
 	public TaggedPDFRoleMapHelper(Map<String, String> roleMap, PDFAFlavour flavour) {
 		this.roleMap = roleMap == null ? Collections.<String, String>emptyMap() : new HashMap<>(roleMap);
-		this.flavour = flavour;
+		if (flavour != null && flavour.getPart() == PDFAFlavour.Specification.ISO_19005_1) {
+			this.currentStandardTypes = PDF_1_4_STANDARD_ROLE_TYPES;
+			this.isFastStop = true;
+		} else {
+			this.currentStandardTypes = PDF_1_7_STANDARD_ROLE_TYPES;
+			this.isFastStop = false;
+		}
+		for (String type : this.roleMap.keySet()) {
+			if (type != null) {
+				this.standardTypes.put(type, resolveStandardType(type));
+				if (hasCircularMapping(type)) {
+					this.circularTypes.add(type);
+				}
+			}
+		}
 	}
 
 	/**
@@ -139,33 +158,20 @@ public class TaggedPDFRoleMapHelper {
 		if (type == null) {
 			return null;
 		}
-		Set<String> currentStandardTypes;
-		boolean isFastStop;
-		if (flavour != null && flavour.getPart() == PDFAFlavour.Specification.ISO_19005_1) {
-			currentStandardTypes = PDF_1_4_STANDARD_ROLE_TYPES;
-			isFastStop = true;
-		} else {
-			currentStandardTypes = PDF_1_7_STANDARD_ROLE_TYPES;
-			isFastStop = false;
+		if (this.standardTypes.containsKey(type)) {
+			return this.standardTypes.get(type);
 		}
-		return getStandardType(type, currentStandardTypes, isFastStop);
+		return this.currentStandardTypes.contains(type) ? type : null;
 	}
 
 	public Boolean isRemappedStandardType(String type) {
 		if (type == null) {
 			return false;
 		}
-		Set<String> currentStandardTypes;
-		if (flavour != null && flavour.getPart() == PDFAFlavour.Specification.ISO_19005_1) {
-			currentStandardTypes = PDF_1_4_STANDARD_ROLE_TYPES;
-		} else {
-			currentStandardTypes = PDF_1_7_STANDARD_ROLE_TYPES;
-		}
-		String res = roleMap.get(type);
-		return currentStandardTypes.contains(type) && res != null;
+		return this.currentStandardTypes.contains(type) && this.roleMap.get(type) != null;
 	}
 
-	private String getStandardType(String type, Set<String> currentStandardTypes, boolean isFastStop) {
+	private String resolveStandardType(String type) {
 		Set<String> visitedTypes = new HashSet<>();
 		visitedTypes.add(type);
 		String res = roleMap.get(type);
@@ -186,6 +192,10 @@ public class TaggedPDFRoleMapHelper {
 		if (type == null) {
 			return null;
 		}
+		return Boolean.valueOf(this.circularTypes.contains(type));
+	}
+
+	private boolean hasCircularMapping(String type) {
 		Set<String> visitedTypes = new HashSet<>();
 		visitedTypes.add(type);
 		String res = roleMap.get(type);
@@ -22,6 +22,7 @@ package org.verapdf.model.tools;
 
 import org.verapdf.xmp.XMPException;
 import org.verapdf.xmp.impl.VeraPDFMeta;
+import org.verapdf.metadata.fixer.utils.XMPCache;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.util.DateConverter;
@@ -75,9 +76,11 @@ public final class XMPChecker {
 	 *
 	 * @param document
 	 *            which will be tested
+	 * @param xmpCache
+	 *            cache of parsed XMP packages of the document
 	 * @return true if fields of xmp matches with fields of info dictionary
 	 */
-	public static Boolean doesInfoMatchXMP(COSDocument document) {
+	public static Boolean doesInfoMatchXMP(COSDocument document, XMPCache xmpCache) {
 		COSDictionary info = getInformationDictionary(document);
 		if (info == null) {
 			return Boolean.TRUE;
@@ -86,7 +89,7 @@ public final class XMPChecker {
 		try {
 			COSStream meta = getMetadataDictionary(document);
 			if (meta != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(meta.getUnfilteredStream());
+				VeraPDFMeta metadata = xmpCache.get(meta);
 
 				Map<String, Object> properties = new HashMap<>(MAX_REQUIRED_RECORDS);
 
@@ -21,6 +21,7 @@
 package org.verapdf.model.tools.resources;
 
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.graphics.PDXObject;
 import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
@@ -47,6 +48,11 @@ class PDEmptyInheritableResources extends PDInheritableResources {
 		return null;
 	}
 
+	@Override
+	public PDResources getInlineImageResources(COSName colorSpaceName) {
+		return EMPTY_RESOURCES;
+	}
+
 	@Override
 	public PDExtendedGraphicsState getExtGState(COSName name) {
 		return null;
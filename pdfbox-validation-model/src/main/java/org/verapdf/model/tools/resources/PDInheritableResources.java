@@ -21,6 +21,8 @@
 package org.verapdf.model.tools.resources;
 
 import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDFont;
@@ -54,6 +56,11 @@ public class PDInheritableResources {
 
 	private final HashMap<COSName, PDFont> fontCache = new HashMap<>();
 
+	// merged resources of inline images, color spaces of current resources
+	// are copied into it on demand
+	private PDResources inlineImageResources;
+	private final Set<COSName> inlineImageColorSpaceNames = new HashSet<>();
+
 	protected PDInheritableResources(PDResources inheritedResources, PDResources currentResources) {
 		this.inheritedResources = inheritedResources;
 		this.currentResources = currentResources;
@@ -127,6 +134,38 @@ public class PDInheritableResources {
 		return colorSpace;
 	}
 
+	/**
+	 * Obtains resources for inline images of the content stream: inherited
+	 * resources with color spaces of current resources taking precedence.
+	 * Merged resources are built once per content stream and only the color
+	 * spaces requested by inline images are copied from current resources.
+	 *
+	 * @param colorSpaceName name of the color space used by inline image or
+	 *                       {@code null} if it uses no named color space
+	 * @return resources to create pdf box inline image with
+	 */
+	public PDResources getInlineImageResources(COSName colorSpaceName) {
+		if (this.inlineImageResources == null) {
+			COSDictionary dictionary = new COSDictionary(this.inheritedResources.getCOSObject());
+			// own color space dictionary, so inherited resources are not modified
+			COSBase colorSpaces = dictionary.getDictionaryObject(COSName.COLORSPACE);
+			dictionary.setItem(COSName.COLORSPACE, colorSpaces instanceof COSDictionary ?
+					new COSDictionary((COSDictionary) colorSpaces) : new COSDictionary());
+			this.inlineImageResources = new PDResources(dictionary);
+		}
+		if (colorSpaceName != null && this.inlineImageColorSpaceNames.add(colorSpaceName)) {
+			COSBase colorSpaces = this.currentResources.getCOSObject().getDictionaryObject(COSName.COLORSPACE);
+			if (colorSpaces instanceof COSDictionary) {
+				COSBase colorSpace = ((COSDictionary) colorSpaces).getItem(colorSpaceName);
+				if (colorSpace != null) {
+					((COSDictionary) this.inlineImageResources.getCOSObject()
+							.getDictionaryObject(COSName.COLORSPACE)).setItem(colorSpaceName, colorSpace);
+				}
+			}
+		}
+		return this.inlineImageResources;
+	}
+
 	public PDExtendedGraphicsState getExtGState(COSName name) {
 		PDExtendedGraphicsState state = this.currentResources.getExtGState(name);
 		if (state != null) {
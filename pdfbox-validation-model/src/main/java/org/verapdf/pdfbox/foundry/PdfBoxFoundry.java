@@ -30,6 +30,7 @@ import org.verapdf.core.EncryptedPdfException;
 import org.verapdf.core.ModelParsingException;
 import org.verapdf.metadata.fixer.PBoxMetadataFixerImpl;
 import org.verapdf.model.ModelParser;
+import org.verapdf.model.ParserConfig;
 import org.verapdf.pdfa.AbstractFoundry;
 import org.verapdf.pdfa.VeraPDFFoundry;
 import org.verapdf.pdfa.PDFAParser;
@@ -39,14 +40,21 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
 
 /**
+ * Foundry of the PDF Box based parsers. Callers, which need to limit memory
+ * used by loaded documents, obtain it from {@link org.verapdf.pdfa.Foundries}
+ * and pass {@link ParserConfig} to the parser factory methods. Feature
+ * extraction of all created parsers parses pages in parallel, when the
+ * executor for the page tasks is set.
+ *
  * @author <a href="mailto:carl@openpreservation.org">Carl Wilson</a>
  *         <a href="https://github.com/carlwilson">carlwilson AT github</a>
  * @version 0.1 Created 22 Sep 2016:09:20:18
  */
 
-class PdfBoxFoundry extends AbstractFoundry {
+public class PdfBoxFoundry extends AbstractFoundry {
 	private static final URI id = URI.create("http://pdfa.verapdf.org/Foundry#pdfbox");
 	private static final ReleaseDetails pdfBoxReleaseDetails = ReleaseDetails.addDetailsFromResource(
 			ReleaseDetails.APPLICATION_PROPERTIES_ROOT + "pdfbox-validation." + ReleaseDetails.PROPERTIES_EXT);
@@ -55,6 +63,8 @@ class PdfBoxFoundry extends AbstractFoundry {
 			pdfBoxReleaseDetails.getVersion(), "This foundry instance provides the PDF Box based validation library.");
 	private static final PdfBoxFoundry instance = new PdfBoxFoundry();
 
+	private volatile ExecutorService featurePageExecutor;
+
 	private PdfBoxFoundry() {
 		super();
 	}
@@ -79,7 +89,21 @@ class PdfBoxFoundry extends AbstractFoundry {
 	@Override
 	public PDFAParser createParser(InputStream pdfStream, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
-		return ModelParser.createModelWithFlavour(pdfStream, flavour);
+		return configure(ModelParser.createModelWithFlavour(pdfStream, flavour));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	/**
+	 * Creates parser keeping the document as defined by the storage
+	 * configuration.
+	 *
+	 * @see ModelParser#createModelWithFlavour(InputStream, PDFAFlavour, ParserConfig)
+	 */
+	public PDFAParser createParser(InputStream pdfStream, PDFAFlavour flavour, ParserConfig config)
+			throws ModelParsingException, EncryptedPdfException {
+		return configure(ModelParser.createModelWithFlavour(pdfStream, flavour, config));
 	}
 
 	/**
@@ -88,7 +112,18 @@ class PdfBoxFoundry extends AbstractFoundry {
 	@Override
 	public PDFAParser createParser(File file, PDFAFlavour pdfaFlavour)
 			throws ModelParsingException, EncryptedPdfException {
-		return ModelParser.createModelWithFlavour(file, pdfaFlavour);
+		return configure(ModelParser.createModelWithFlavour(file, pdfaFlavour));
+	}
+
+	/**
+	 * Creates parser keeping the document as defined by the storage
+	 * configuration.
+	 *
+	 * @see ModelParser#createModelWithFlavour(File, PDFAFlavour, ParserConfig)
+	 */
+	public PDFAParser createParser(File file, PDFAFlavour pdfaFlavour, ParserConfig config)
+			throws ModelParsingException, EncryptedPdfException {
+		return configure(ModelParser.createModelWithFlavour(file, pdfaFlavour, config));
 	}
 
 	@Override
@@ -100,7 +135,30 @@ class PdfBoxFoundry extends AbstractFoundry {
 	@Override
 	public PDFAParser createParser(File file, PDFAFlavour pdfaFlavour, PDFAFlavour defaultFlavour)
 			throws ModelParsingException, EncryptedPdfException {
-		return ModelParser.createModelWithFlavour(file, pdfaFlavour, defaultFlavour);
+		return configure(ModelParser.createModelWithFlavour(file, pdfaFlavour, defaultFlavour));
+	}
+
+	public PDFAParser createParser(File file, PDFAFlavour pdfaFlavour, PDFAFlavour defaultFlavour,
+			ParserConfig config) throws ModelParsingException, EncryptedPdfException {
+		return configure(ModelParser.createModelWithFlavour(file, pdfaFlavour, defaultFlavour, config));
+	}
+
+	/**
+	 * Sets executor of feature extraction page tasks for the parsers created
+	 * after this call. The executor is shared by all of them, so it bounds the
+	 * number of threads used for documents processed concurrently, and it is
+	 * owned by the caller.
+	 *
+	 * @param featurePageExecutor executor of the page parsing tasks,
+	 *                            {@code null} to parse the pages sequentially
+	 */
+	public void setFeaturePageExecutor(ExecutorService featurePageExecutor) {
+		this.featurePageExecutor = featurePageExecutor;
+	}
+
+	private ModelParser configure(ModelParser parser) {
+		parser.setFeaturePageExecutor(this.featurePageExecutor);
+		return parser;
 	}
 
 	/**
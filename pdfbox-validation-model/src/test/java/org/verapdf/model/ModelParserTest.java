@@ -0,0 +1,149 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.verapdf.core.ModelParsingException;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.cos.PBCosDocument;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+
+public class ModelParserTest {
+
+	private static final String FILE_PATH = "model/impl/pb/pd/Fonts.pdf";
+
+	@Rule
+	public TemporaryFolder tempDir = new TemporaryFolder();
+
+	@Test
+	public void testDefault() throws Exception {
+		testStorage(ParserConfig.DEFAULT, false);
+	}
+
+	@Test
+	public void testMainMemory() throws Exception {
+		testStorage(ParserConfig.mainMemory(-1), false);
+	}
+
+	@Test
+	public void testMixedWithinMainMemoryLimit() throws Exception {
+		testStorage(ParserConfig.mixed(Integer.MAX_VALUE, -1, this.tempDir.getRoot()), false);
+	}
+
+	@Test
+	public void testMixedOverMainMemoryLimit() throws Exception {
+		testStorage(ParserConfig.mixed(16, -1, this.tempDir.getRoot()), true);
+	}
+
+	@Test
+	public void testTempFile() throws Exception {
+		testStorage(ParserConfig.tempFile(-1, this.tempDir.getRoot()), true);
+	}
+
+	@Test
+	public void testMixedWithoutMainMemoryLimitOverflow() throws Exception {
+		testStorage(ParserConfig.mixed(Long.MAX_VALUE, -1, this.tempDir.getRoot()), false);
+	}
+
+	@Test
+	public void testFileMainMemory() throws Exception {
+		testFileStorage(ParserConfig.mainMemory(-1));
+	}
+
+	@Test
+	public void testFileMixedOverMainMemoryLimit() throws Exception {
+		testFileStorage(ParserConfig.mixed(16, -1, this.tempDir.getRoot()));
+	}
+
+	@Test
+	public void testFileTempFile() throws Exception {
+		testFileStorage(ParserConfig.tempFile(-1, this.tempDir.getRoot()));
+	}
+
+	@Test(expected = ModelParsingException.class)
+	public void testFileMainMemoryLimitExceeded() throws Exception {
+		ModelParser.createModelWithFlavour(getFile(), PDFAFlavour.PDFA_1_B, ParserConfig.mainMemory(16)).close();
+	}
+
+	@Test(expected = ModelParsingException.class)
+	public void testFileStorageLimitExceeded() throws Exception {
+		ModelParser.createModelWithFlavour(getFile(), PDFAFlavour.PDFA_1_B,
+				ParserConfig.tempFile(16, this.tempDir.getRoot())).close();
+	}
+
+	@Test(expected = ModelParsingException.class)
+	public void testMainMemoryLimitExceeded() throws Exception {
+		try (InputStream stream = open()) {
+			ModelParser.createModelWithFlavour(stream, PDFAFlavour.PDFA_1_B, ParserConfig.mainMemory(16)).close();
+		}
+	}
+
+	@Test
+	public void testTempFileLimitExceeded() throws Exception {
+		try (InputStream stream = open()) {
+			ModelParser.createModelWithFlavour(stream, PDFAFlavour.PDFA_1_B,
+					ParserConfig.tempFile(16, this.tempDir.getRoot())).close();
+			Assert.fail("Document over the storage limit was loaded");
+		} catch (ModelParsingException e) {
+			Assert.assertEquals(0, countTempFiles());
+		}
+	}
+
+	private void testStorage(ParserConfig config, boolean usesTempFile) throws Exception {
+		try (InputStream stream = open();
+			 ModelParser parser = ModelParser.createModelWithFlavour(stream, PDFAFlavour.PDFA_1_B, config)) {
+			Object root = parser.getRoot();
+			Assert.assertNotNull(root);
+			Assert.assertEquals(PBCosDocument.COS_DOCUMENT_TYPE, root.getObjectType());
+			Assert.assertEquals(PDFAFlavour.PDFA_1_B, parser.getFlavour());
+			Assert.assertEquals(usesTempFile ? 1 : 0, countTempFiles());
+		}
+		Assert.assertEquals(0, countTempFiles());
+	}
+
+	private void testFileStorage(ParserConfig config) throws Exception {
+		try (ModelParser parser = ModelParser.createModelWithFlavour(getFile(), PDFAFlavour.PDFA_1_B, config)) {
+			Assert.assertNotNull(parser.getRoot());
+			// documents loaded from file are never copied
+			Assert.assertEquals(0, countTempFiles());
+		}
+	}
+
+	private int countTempFiles() {
+		File[] files = this.tempDir.getRoot().listFiles();
+		return files == null ? 0 : files.length;
+	}
+
+	private static File getFile() throws URISyntaxException {
+		return new File(ModelParserTest.class.getClassLoader().getResource(FILE_PATH).toURI());
+	}
+
+	private static InputStream open() {
+		return ModelParserTest.class.getClassLoader().getResourceAsStream(FILE_PATH);
+	}
+}
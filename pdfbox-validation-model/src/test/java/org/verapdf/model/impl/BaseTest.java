@@ -25,6 +25,7 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Test;
 import org.verapdf.model.ModelHelper;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,6 +46,7 @@ public abstract class BaseTest {
 
     protected static org.verapdf.model.baselayer.Object actual;
 	protected static PDDocument document;
+	protected static ValidationContext context;
 
     protected static String expectedType;
     protected static String expectedID;
@@ -77,6 +79,10 @@ public abstract class BaseTest {
 		expectedID = null;
 		actual = null;
 
+		if (context != null) {
+			context.close();
+			context = null;
+		}
 		if (document != null) {
 			document.close();
 		}
@@ -84,5 +90,6 @@ public abstract class BaseTest {
 
 	protected static void setUp(String path) throws URISyntaxException, IOException {
 		document = PDDocument.load(BaseTest.class.getClassLoader().getResourceAsStream(BASE_FOLDER + path), false, true);
+		context = ValidationContext.open(document);
 	}
 }
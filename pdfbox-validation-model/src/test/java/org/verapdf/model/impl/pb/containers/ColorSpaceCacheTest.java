@@ -0,0 +1,127 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDSeparation;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.pd.colors.PBoxPDDeviceCMYK;
+import org.verapdf.model.impl.pb.pd.colors.PBoxPDDeviceRGB;
+import org.verapdf.model.pdlayer.PDColorSpace;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.io.IOException;
+
+public class ColorSpaceCacheTest {
+
+	private static final PDColorSpace FIRST = PBoxPDDeviceCMYK.getInstance();
+	private static final PDColorSpace SECOND = PBoxPDDeviceRGB.getInstance();
+
+	@Test
+	public void testOverprintStatesAreSeparateEntries() throws IOException {
+		ColorSpaceCache cache = new ColorSpaceCache();
+		PDSeparation colorSpace = separation(array(1f));
+		cache.put(colorSpace, 0, false, FIRST);
+		cache.put(colorSpace, 1, true, SECOND);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertSame(FIRST, cache.get(colorSpace, 0, false));
+		Assert.assertSame(SECOND, cache.get(colorSpace, 1, true));
+		Assert.assertNull(cache.get(colorSpace, 1, false));
+		Assert.assertNull(cache.get(colorSpace, 0, true));
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void testEqualDirectContentIsShared() throws IOException {
+		ColorSpaceCache cache = new ColorSpaceCache();
+		cache.put(separation(array(1f)), 1, true, FIRST);
+
+		Assert.assertSame(FIRST, cache.get(separation(array(1f)), 1, true));
+		Assert.assertNull(cache.get(separation(array(0.5f)), 1, true));
+	}
+
+	@Test
+	public void testFactorySharesEqualDirectColorSpaces() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			ValidationContext context = ValidationContext.open(document);
+			try {
+				PDColorSpace first = getColorSpace(separation(array(1f)), document);
+				PDColorSpace second = getColorSpace(separation(array(1f)), document);
+				PDColorSpace other = getColorSpace(separation(array(0.5f)), document);
+
+				Assert.assertSame(first, second);
+				Assert.assertNotSame(first, other);
+				Assert.assertEquals(2, context.getColorSpaceCache().size());
+			} finally {
+				context.close();
+			}
+		}
+	}
+
+	@Test
+	public void testFactoryWithoutDocumentDoesNotShare() throws IOException {
+		PDColorSpace first = getColorSpace(separation(array(1f)), null);
+		PDColorSpace second = getColorSpace(separation(array(1f)), null);
+		Assert.assertNotSame(first, second);
+	}
+
+	private static PDColorSpace getColorSpace(PDSeparation colorSpace, PDDocument document) {
+		return ColorSpaceFactory.getColorSpace(colorSpace, null, PDInheritableResources.EMPTY_EXTENDED_RESOURCES,
+				0, false, document, null);
+	}
+
+	private static PDSeparation separation(COSArray array) throws IOException {
+		return new PDSeparation(array);
+	}
+
+	private static COSArray array(float maximum) {
+		COSDictionary function = new COSDictionary();
+		function.setInt(COSName.FUNCTION_TYPE, 2);
+		function.setItem(COSName.DOMAIN, floats(0f, 1f));
+		function.setItem(COSName.C0, floats(0f, 0f, 0f, 0f));
+		function.setItem(COSName.C1, floats(maximum, maximum, maximum, maximum));
+		function.setItem(COSName.N, COSInteger.ONE);
+
+		COSArray array = new COSArray();
+		array.add(COSName.SEPARATION);
+		array.add(COSName.getPDFName("Spot"));
+		array.add(COSName.DEVICECMYK);
+		array.add(function);
+		return array;
+	}
+
+	private static COSArray floats(float... values) {
+		COSArray array = new COSArray();
+		for (float value : values) {
+			array.add(new COSFloat(value));
+		}
+		return array;
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ContentStreamCacheTest {
+
+	private static final COSObjectKey FORM_KEY = new COSObjectKey(10, 0);
+	private static final COSObjectKey SECOND_FORM_KEY = new COSObjectKey(11, 0);
+	private static final COSObjectKey THIRD_FORM_KEY = new COSObjectKey(12, 0);
+
+	@Test
+	public void testSameFormWithDifferentInheritedResources() {
+		ContentStreamCache cache = new ContentStreamCache();
+		PDInheritableResources firstPage = PDInheritableResources.getInstance(new PDResources());
+		PDInheritableResources secondPage = PDInheritableResources.getInstance(new PDResources());
+		// form without own resources inherits resources of its page
+		PDInheritableResources firstForm = firstPage.getExtendedResources(null);
+		PDInheritableResources secondForm = secondPage.getExtendedResources(null);
+
+		cache.put(FORM_KEY, firstForm, PDFAFlavour.PDFA_1_B, operators(3), false);
+		Assert.assertNull(cache.get(FORM_KEY, secondForm, PDFAFlavour.PDFA_1_B));
+		cache.put(FORM_KEY, secondForm, PDFAFlavour.PDFA_1_B, operators(3), true);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertFalse(cache.get(FORM_KEY, firstForm, PDFAFlavour.PDFA_1_B).isContainsTransparency());
+		Assert.assertTrue(cache.get(FORM_KEY, secondForm, PDFAFlavour.PDFA_1_B).isContainsTransparency());
+	}
+
+	@Test
+	public void testSameFormWithSameResources() {
+		ContentStreamCache cache = new ContentStreamCache();
+		PDInheritableResources page = PDInheritableResources.getInstance(new PDResources());
+		PDInheritableResources firstInvocation = page.getExtendedResources(null);
+		PDInheritableResources secondInvocation = page.getExtendedResources(null);
+		List<Operator> operators = operators(5);
+
+		cache.put(FORM_KEY, firstInvocation, PDFAFlavour.PDFA_1_B, operators, false);
+		ContentStreamCache.Entry entry = cache.get(FORM_KEY, secondInvocation, PDFAFlavour.PDFA_1_B);
+
+		Assert.assertNotNull(entry);
+		Assert.assertSame(operators, entry.getOperators());
+		// resources of the first invocation keep names collected while parsing
+		Assert.assertSame(firstInvocation, entry.getResources());
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testSameFormWithDifferentFlavour() {
+		ContentStreamCache cache = new ContentStreamCache();
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+
+		cache.put(FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(1), false);
+
+		Assert.assertNull(cache.get(FORM_KEY, resources, PDFAFlavour.PDFA_2_B));
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testDefaultLimit() {
+		Assert.assertEquals(ContentStreamCache.DEFAULT_MAX_OPERATORS, new ContentStreamCache().getMaxOperators());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		ContentStreamCache cache = new ContentStreamCache();
+		cache.setMaxOperators(10);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+
+		cache.put(FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+		cache.put(SECOND_FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+		// first form becomes the most recently used one
+		Assert.assertNotNull(cache.get(FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+		cache.put(THIRD_FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+
+		Assert.assertEquals(1, cache.getEvictions());
+		Assert.assertEquals(2, cache.size());
+		Assert.assertNull(cache.get(SECOND_FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+		Assert.assertNotNull(cache.get(FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+		Assert.assertNotNull(cache.get(THIRD_FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+	}
+
+	@Test
+	public void testStreamOverLimitIsNotCached() {
+		ContentStreamCache cache = new ContentStreamCache();
+		cache.setMaxOperators(10);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+
+		cache.put(FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+		cache.put(SECOND_FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(11), false);
+
+		Assert.assertEquals(1, cache.size());
+		Assert.assertEquals(0, cache.getEvictions());
+		Assert.assertNotNull(cache.get(FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+	}
+
+	@Test
+	public void testLoweredLimitEvicts() {
+		ContentStreamCache cache = new ContentStreamCache();
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources());
+
+		cache.put(FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+		cache.put(SECOND_FORM_KEY, resources, PDFAFlavour.PDFA_1_B, operators(4), false);
+		cache.setMaxOperators(5);
+
+		Assert.assertEquals(1, cache.getEvictions());
+		Assert.assertNull(cache.get(FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+		Assert.assertNotNull(cache.get(SECOND_FORM_KEY, resources, PDFAFlavour.PDFA_1_B));
+	}
+
+	static List<Operator> operators(int count) {
+		return Collections.nCopies(count, (Operator) null);
+	}
+}
@@ -0,0 +1,59 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class PageIndexTest {
+
+	@Test
+	public void testDuplicatePageReferences() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			PDPage first = new PDPage();
+			PDPage second = new PDPage();
+			document.addPage(first);
+			document.addPage(second);
+			// the first page is referenced once more at the end of the tree
+			COSDictionary root = document.getPages().getCOSObject();
+			((COSArray) root.getDictionaryObject(COSName.KIDS)).add(first.getCOSObject());
+			root.setInt(COSName.COUNT, 3);
+
+			PageIndex index = new PageIndex(document.getPages());
+
+			Assert.assertEquals(3, index.size());
+			Assert.assertSame(first.getCOSObject(), index.getPageDictionary(0));
+			Assert.assertSame(second.getCOSObject(), index.getPageDictionary(1));
+			Assert.assertSame(first.getCOSObject(), index.getPageDictionary(2));
+			// page number of a repeated page is its first position
+			Assert.assertEquals(0, index.getPageNumber(first));
+			Assert.assertEquals(1, index.getPageNumber(second));
+			Assert.assertEquals(-1, index.getPageNumber(new PDPage()));
+		}
+	}
+}
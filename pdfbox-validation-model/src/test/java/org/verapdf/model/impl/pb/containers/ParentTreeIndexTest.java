@@ -0,0 +1,143 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParentTreeIndexTest {
+
+	@Test
+	public void testDenseTree() {
+		COSDictionary first = new COSDictionary();
+		COSDictionary second = new COSDictionary();
+		COSDictionary third = new COSDictionary();
+		COSDictionary root = node(kids(leaf(0, first, 1, second), leaf(2, third)));
+
+		ParentTreeIndex index = new ParentTreeIndex(root);
+
+		Assert.assertSame(first, index.getStructElement(0));
+		Assert.assertSame(second, index.getStructElement(1));
+		Assert.assertSame(third, index.getStructElement(2));
+		Assert.assertNull(index.getStructElement(3));
+		Assert.assertNull(index.getStructElement(-1));
+	}
+
+	@Test
+	public void testSparseTree() {
+		COSDictionary first = new COSDictionary();
+		COSDictionary last = new COSDictionary();
+		COSDictionary root = node(kids(leaf(5, first), leaf(1_000_000, last)));
+
+		ParentTreeIndex index = new ParentTreeIndex(root);
+
+		Assert.assertSame(first, index.getStructElement(5));
+		Assert.assertSame(last, index.getStructElement(1_000_000));
+		Assert.assertNull(index.getStructElement(6));
+		Assert.assertNull(index.getStructElement(999_999));
+	}
+
+	@Test
+	public void testFirstOccurrenceWins() {
+		COSDictionary first = new COSDictionary();
+		COSDictionary duplicate = new COSDictionary();
+		COSDictionary root = node(kids(leaf(1, first), leaf(1, duplicate)));
+
+		Assert.assertSame(first, new ParentTreeIndex(root).getStructElement(1));
+	}
+
+	@Test
+	public void testCyclicKids() {
+		COSDictionary element = new COSDictionary();
+		COSDictionary kid = leaf(3, element);
+		COSDictionary root = node(kids(kid));
+		// kid refers back to the root
+		kid.setItem(COSName.KIDS, kids(root));
+
+		ParentTreeIndex index = new ParentTreeIndex(root);
+
+		Assert.assertSame(element, index.getStructElement(3));
+	}
+
+	@Test
+	public void testNegativeKeyIsDropped() {
+		COSDictionary element = new COSDictionary();
+		COSDictionary root = node(kids(leaf(-1, new COSDictionary(), 0, element)));
+
+		ParentTreeIndex index = new ParentTreeIndex(root);
+
+		Assert.assertSame(element, index.getStructElement(0));
+		Assert.assertNull(index.getStructElement(-1));
+	}
+
+	@Test
+	public void testKeyOutOfIntRangeIsDropped() {
+		COSDictionary element = new COSDictionary();
+		COSArray nums = new COSArray();
+		nums.add(COSInteger.get(Integer.MAX_VALUE + 1L));
+		nums.add(new COSDictionary());
+		nums.add(COSInteger.get(1));
+		nums.add(element);
+		COSDictionary leaf = new COSDictionary();
+		leaf.setItem(COSName.NUMS, nums);
+
+		ParentTreeIndex index = new ParentTreeIndex(node(kids(leaf)));
+
+		Assert.assertSame(element, index.getStructElement(1));
+		Assert.assertNull(index.getStructElement(Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void testNoParentTree() {
+		ParentTreeIndex index = new ParentTreeIndex(null);
+
+		Assert.assertNull(index.getValue(0));
+	}
+
+	private static COSDictionary leaf(Object... keysAndValues) {
+		COSArray nums = new COSArray();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			nums.add(COSInteger.get(((Integer) keysAndValues[i]).intValue()));
+			nums.add((COSDictionary) keysAndValues[i + 1]);
+		}
+		COSDictionary leaf = new COSDictionary();
+		leaf.setItem(COSName.NUMS, nums);
+		return leaf;
+	}
+
+	private static COSArray kids(COSDictionary... nodes) {
+		COSArray kids = new COSArray();
+		for (COSDictionary node : nodes) {
+			kids.add(node);
+		}
+		return kids;
+	}
+
+	private static COSDictionary node(COSArray kids) {
+		COSDictionary node = new COSDictionary();
+		node.setItem(COSName.KIDS, kids);
+		return node;
+	}
+}
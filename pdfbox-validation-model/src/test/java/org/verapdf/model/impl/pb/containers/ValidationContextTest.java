@@ -0,0 +1,92 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class ValidationContextTest {
+
+	@Test
+	public void testNoContextOpen() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			ValidationContext context = ValidationContext.of(document);
+			Assert.assertNotNull(context);
+			Assert.assertNotSame(context, ValidationContext.of(document));
+		}
+	}
+
+	@Test
+	public void testNullDocument() {
+		Assert.assertNotNull(ValidationContext.of(null));
+	}
+
+	@Test
+	public void testOpenedContextIsFound() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			ValidationContext context = ValidationContext.open(document);
+			Assert.assertSame(context, ValidationContext.of(document));
+			context.close();
+		}
+	}
+
+	@Test
+	public void testClosedContextIsUnbound() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			ValidationContext context = ValidationContext.open(document);
+			context.close();
+			Assert.assertNotSame(context, ValidationContext.of(document));
+		}
+	}
+
+	@Test
+	public void testSecondOwnerSharesLiveContext() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			ValidationContext first = ValidationContext.open(document);
+			first.getNoteIDSet().add("note");
+			ValidationContext second = ValidationContext.open(document);
+			Assert.assertSame(first, second);
+			second.close();
+			Assert.assertSame(first, ValidationContext.of(document));
+			Assert.assertTrue(first.getNoteIDSet().contains("note"));
+			first.close();
+			Assert.assertTrue(first.getNoteIDSet().isEmpty());
+			Assert.assertNotSame(first, ValidationContext.of(document));
+		}
+	}
+
+	@Test
+	public void testContextsOfDifferentDocuments() throws IOException {
+		try (PDDocument first = new PDDocument(); PDDocument second = new PDDocument()) {
+			ValidationContext firstContext = ValidationContext.open(first);
+			ValidationContext secondContext = ValidationContext.open(second);
+			Assert.assertNotSame(firstContext, secondContext);
+			Assert.assertSame(firstContext, ValidationContext.of(first));
+			Assert.assertSame(secondContext, ValidationContext.of(second));
+			firstContext.close();
+			Assert.assertSame(secondContext, ValidationContext.of(second));
+			secondContext.close();
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.external;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class PBoxJPEG2000Test {
+
+	private static final byte[] SIGNATURE = { 0x00, 0x00, 0x00, 0x0C, 0x6A, 0x50, 0x20, 0x20, 0x0D, 0x0A, -0x79, 0x0A };
+	private static final long UNKNOWN_ENUM_CS = 99;
+
+	@Test
+	public void testBoxes() throws IOException {
+		assertParsed(parse(createImage(false)));
+	}
+
+	@Test
+	public void testShortReads() throws IOException {
+		byte[] image = createImage(false);
+		assertParsed(parse(image, 1));
+		assertParsed(parse(image, 3));
+	}
+
+	@Test
+	public void testExtendedLength() throws IOException {
+		byte[] image = createImage(true);
+		assertParsed(parse(image));
+		assertParsed(parse(image, 1));
+	}
+
+	@Test
+	public void testHeaderUpToEndOfStream() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(SIGNATURE);
+		out.write(box("ftyp", fileType(), false));
+		// zero LBox means that the header box lasts up to the end of stream
+		out.write(new byte[] { 0, 0, 0, 0 });
+		out.write("jp2h".getBytes(StandardCharsets.US_ASCII));
+		out.write(headerContent(false));
+		assertParsed(parse(out.toByteArray()));
+	}
+
+	@Test
+	public void testTruncatedSignature() throws IOException {
+		assertDefaults(parse(Arrays.copyOf(SIGNATURE, SIGNATURE.length - 1)));
+	}
+
+	@Test
+	public void testTruncatedExtendedLength() throws IOException {
+		byte[] image = createImage(true);
+		int jp2h = indexOf(image, "jp2h");
+		// XLBox of the header box is cut in the middle
+		assertDefaults(parse(Arrays.copyOf(image, jp2h + 8), 1));
+	}
+
+	@Test
+	public void testTruncatedImageHeader() throws IOException {
+		byte[] image = createImage(false);
+		int ihdr = indexOf(image, "ihdr");
+		// stream ends inside the number of components field
+		assertDefaults(parse(Arrays.copyOf(image, ihdr + 4 + 9), 1));
+	}
+
+	@Test
+	public void testTruncatedColourSpecification() throws IOException {
+		byte[] image = createImage(false);
+		int colr = indexOf(image, "colr");
+		// stream ends right after METH, PREC and APPROX fields
+		PBoxJPEG2000 jpeg = parse(Arrays.copyOf(image, colr + 4 + 3), 1);
+		Assert.assertEquals(Long.valueOf(3), jpeg.getnrColorChannels());
+		Assert.assertEquals(Long.valueOf(8), jpeg.getbitDepth());
+		Assert.assertEquals(Boolean.TRUE, jpeg.getbpccBoxPresent());
+		Assert.assertEquals(Long.valueOf(1), jpeg.getnrColorSpaceSpecs());
+		Assert.assertEquals(Long.valueOf(1), jpeg.getcolrMethod());
+		Assert.assertNull(jpeg.getcolrEnumCS());
+	}
+
+	@Test
+	public void testTruncatedBoxContent() throws IOException {
+		byte[] image = createImage(false);
+		int bpcc = indexOf(image, "bpcc");
+		// bpcc box declares more content than the stream contains
+		PBoxJPEG2000 jpeg = parse(Arrays.copyOf(image, bpcc + 4 + 1), 1);
+		Assert.assertEquals(Long.valueOf(3), jpeg.getnrColorChannels());
+		Assert.assertEquals(Boolean.TRUE, jpeg.getbpccBoxPresent());
+		Assert.assertEquals(Long.valueOf(0), jpeg.getnrColorSpaceSpecs());
+	}
+
+	private static void assertParsed(PBoxJPEG2000 jpeg) {
+		Assert.assertEquals(Long.valueOf(3), jpeg.getnrColorChannels());
+		Assert.assertEquals(Long.valueOf(8), jpeg.getbitDepth());
+		Assert.assertEquals(Boolean.TRUE, jpeg.getbpccBoxPresent());
+		Assert.assertEquals(Long.valueOf(1), jpeg.getnrColorSpaceSpecs());
+		Assert.assertEquals(Long.valueOf(0), jpeg.getnrColorSpacesWithApproxField());
+		Assert.assertEquals(Long.valueOf(1), jpeg.getcolrMethod());
+		Assert.assertEquals(Long.valueOf(UNKNOWN_ENUM_CS), jpeg.getcolrEnumCS());
+		Assert.assertNull(jpeg.getImageColorSpace());
+	}
+
+	private static void assertDefaults(PBoxJPEG2000 jpeg) {
+		Assert.assertEquals(PBoxJPEG2000.DEFAULT_NR_COLOR_CHANNELS, jpeg.getnrColorChannels());
+		Assert.assertEquals(PBoxJPEG2000.DEFAULT_BIT_DEPTH, jpeg.getbitDepth());
+		Assert.assertEquals(PBoxJPEG2000.DEFAULT_BPCC_BOX_PRESENT, jpeg.getbpccBoxPresent());
+		Assert.assertEquals(PBoxJPEG2000.DEFAULT_NR_COLOR_SPACE_SPECS, jpeg.getnrColorSpaceSpecs());
+		Assert.assertEquals(PBoxJPEG2000.DEFAULT_COLR_METHOD, jpeg.getcolrMethod());
+		Assert.assertNull(jpeg.getcolrEnumCS());
+	}
+
+	private static PBoxJPEG2000 parse(byte[] image) {
+		return PBoxJPEG2000.fromStream(new ByteArrayInputStream(image), null, PDFAFlavour.PDFA_2_B);
+	}
+
+	private static PBoxJPEG2000 parse(byte[] image, int chunkSize) {
+		return PBoxJPEG2000.fromStream(new ChunkedInputStream(new ByteArrayInputStream(image), chunkSize), null,
+				PDFAFlavour.PDFA_2_B);
+	}
+
+	private static byte[] createImage(boolean extended) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(SIGNATURE);
+		out.write(box("ftyp", fileType(), extended));
+		out.write(box("jp2h", headerContent(extended), extended));
+		out.write(box("jp2c", new byte[] { -1, 0x4F, -1, -0x27 }, extended));
+		return out.toByteArray();
+	}
+
+	private static byte[] fileType() {
+		return "jp2 \0\0\0\0jp2 ".getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static byte[] headerContent(boolean extended) throws IOException {
+		ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(ihdr);
+		data.writeInt(16);
+		data.writeInt(32);
+		data.writeShort(3);
+		data.writeByte(7);
+		data.writeByte(7);
+		data.writeByte(0);
+		data.writeByte(0);
+
+		ByteArrayOutputStream colr = new ByteArrayOutputStream();
+		data = new DataOutputStream(colr);
+		data.writeByte(1);
+		data.writeByte(0);
+		data.writeByte(0);
+		data.writeInt((int) UNKNOWN_ENUM_CS);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(box("ihdr", ihdr.toByteArray(), extended));
+		out.write(box("bpcc", new byte[] { 7, 7, 7 }, extended));
+		out.write(box("colr", colr.toByteArray(), extended));
+		return out.toByteArray();
+	}
+
+	private static byte[] box(String type, byte[] content, boolean extended) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(out);
+		if (extended) {
+			data.writeInt(1);
+			data.write(type.getBytes(StandardCharsets.US_ASCII));
+			data.writeLong(16L + content.length);
+		} else {
+			data.writeInt(8 + content.length);
+			data.write(type.getBytes(StandardCharsets.US_ASCII));
+		}
+		data.write(content);
+		return out.toByteArray();
+	}
+
+	private static int indexOf(byte[] image, String type) {
+		byte[] bytes = type.getBytes(StandardCharsets.US_ASCII);
+		for (int i = 0; i <= image.length - bytes.length; ++i) {
+			if (Arrays.equals(bytes, Arrays.copyOfRange(image, i, i + bytes.length))) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("No box " + type);
+	}
+
+	/**
+	 * Stream which returns at most given number of bytes per read and does
+	 * not skip any bytes
+	 */
+	private static class ChunkedInputStream extends FilterInputStream {
+		private final int chunkSize;
+
+		private ChunkedInputStream(InputStream in, int chunkSize) {
+			super(in);
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return super.read(b, off, Math.min(len, this.chunkSize));
+		}
+
+		@Override
+		public long skip(long n) {
+			return 0;
+		}
+	}
+}
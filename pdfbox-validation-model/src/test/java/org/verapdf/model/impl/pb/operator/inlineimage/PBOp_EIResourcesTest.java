@@ -0,0 +1,111 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.operator.inlineimage;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.pd.colors.PBoxPDLab;
+import org.verapdf.model.impl.pb.pd.images.PBoxPDInlineImage;
+import org.verapdf.model.impl.pb.pd.images.PBoxPDXImage;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PBOp_EIResourcesTest {
+
+	private static final COSName COLOR_SPACE_NAME = COSName.getPDFName("CS0");
+
+	@Test
+	public void testColorSpaceFromInheritedResources() {
+		COSDictionary colorSpaces = new COSDictionary();
+		colorSpaces.setItem(COLOR_SPACE_NAME, lab());
+		COSDictionary inherited = new COSDictionary();
+		inherited.setItem(COSName.COLORSPACE, colorSpaces);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources(inherited), null);
+
+		PBOp_EI operator = new PBOp_EI(Collections.<COSBase>singletonList(parameters()),
+				new byte[] {0, 0, 0}, resources, null, null);
+		List<? extends Object> images = operator.getLinkedObjects(PBOp_EI.INLINE_IMAGE);
+		Assert.assertEquals(1, images.size());
+		Assert.assertEquals(PBoxPDInlineImage.INLINE_IMAGE_TYPE, images.get(0).getObjectType());
+
+		List<? extends Object> colorSpace = images.get(0).getLinkedObjects(PBoxPDXImage.IMAGE_CS);
+		Assert.assertEquals(1, colorSpace.size());
+		Assert.assertEquals(PBoxPDLab.LAB_COLOR_SPACE_TYPE, colorSpace.get(0).getObjectType());
+
+		Assert.assertSame(colorSpaces, inherited.getDictionaryObject(COSName.COLORSPACE));
+		Assert.assertEquals(1, colorSpaces.size());
+		Assert.assertEquals(1, inherited.size());
+	}
+
+	@Test
+	public void testMergedResourcesDoNotModifyInheritedResources() {
+		COSDictionary colorSpaces = new COSDictionary();
+		colorSpaces.setItem(COLOR_SPACE_NAME, lab());
+		COSDictionary inherited = new COSDictionary();
+		inherited.setItem(COSName.COLORSPACE, colorSpaces);
+		PDInheritableResources resources = PDInheritableResources.getInstance(new PDResources(inherited), null);
+
+		PDResources merged = resources.getInlineImageResources(COLOR_SPACE_NAME);
+		Assert.assertSame(merged, resources.getInlineImageResources(COSName.getPDFName("CS1")));
+
+		COSDictionary mergedColorSpaces = (COSDictionary) merged.getCOSObject()
+				.getDictionaryObject(COSName.COLORSPACE);
+		Assert.assertNotSame(colorSpaces, mergedColorSpaces);
+		Assert.assertSame(colorSpaces.getItem(COLOR_SPACE_NAME), mergedColorSpaces.getItem(COLOR_SPACE_NAME));
+
+		mergedColorSpaces.setItem(COSName.getPDFName("CS2"), COSName.DEVICERGB);
+		Assert.assertEquals(1, colorSpaces.size());
+		Assert.assertSame(colorSpaces, inherited.getDictionaryObject(COSName.COLORSPACE));
+	}
+
+	private static COSDictionary parameters() {
+		COSDictionary parameters = new COSDictionary();
+		parameters.setInt(COSName.W, 1);
+		parameters.setInt(COSName.H, 1);
+		parameters.setInt(COSName.BPC, 8);
+		parameters.setItem(COSName.CS, COLOR_SPACE_NAME);
+		return parameters;
+	}
+
+	private static COSArray lab() {
+		COSArray whitePoint = new COSArray();
+		whitePoint.add(new COSFloat(0.9505f));
+		whitePoint.add(COSInteger.ONE);
+		whitePoint.add(new COSFloat(1.089f));
+		COSDictionary dictionary = new COSDictionary();
+		dictionary.setItem(COSName.WHITE_POINT, whitePoint);
+
+		COSArray lab = new COSArray();
+		lab.add(COSName.LAB);
+		lab.add(dictionary);
+		return lab;
+	}
+}
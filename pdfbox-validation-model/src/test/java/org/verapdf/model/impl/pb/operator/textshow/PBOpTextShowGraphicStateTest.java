@@ -0,0 +1,94 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.operator.textshow;
+
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.tools.constants.Operators;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PBOpTextShowGraphicStateTest {
+
+	private static final COSName F1 = COSName.getPDFName("F1");
+	private static final COSName F2 = COSName.getPDFName("F2");
+	private static final COSName F3 = COSName.getPDFName("F3");
+
+	@Test
+	public void testTextShowOperatorsKeepOwnGraphicState() {
+		List<Object> tokens = new ArrayList<>();
+		addFont(tokens, F1);
+		addShow(tokens, "a");
+		tokens.add(Operator.getOperator(Operators.Q_GSAVE));
+		addFont(tokens, F2);
+		addRenderingMode(tokens, RenderingMode.STROKE);
+		addShow(tokens, "b");
+		tokens.add(Operator.getOperator(Operators.Q_GRESTORE));
+		addShow(tokens, "c");
+		addFont(tokens, F3);
+		addRenderingMode(tokens, RenderingMode.FILL_STROKE);
+		addShow(tokens, "d");
+
+		List<PBOpTextShow> textShows = new ArrayList<>();
+		for (org.verapdf.model.operator.Operator operator : new OperatorFactory().operatorsFromTokens(tokens,
+				PDInheritableResources.EMPTY_EXTENDED_RESOURCES, null, null)) {
+			if (operator instanceof PBOpTextShow) {
+				textShows.add((PBOpTextShow) operator);
+			}
+		}
+
+		Assert.assertEquals(4, textShows.size());
+		assertState(textShows.get(0), F1, RenderingMode.FILL);
+		assertState(textShows.get(1), F2, RenderingMode.STROKE);
+		assertState(textShows.get(2), F1, RenderingMode.FILL);
+		assertState(textShows.get(3), F3, RenderingMode.FILL_STROKE);
+	}
+
+	private static void assertState(PBOpTextShow textShow, COSName fontName, RenderingMode renderingMode) {
+		Assert.assertEquals(fontName, textShow.state.getFontName());
+		Assert.assertEquals(renderingMode, textShow.state.getRenderingMode());
+	}
+
+	private static void addFont(List<Object> tokens, COSName fontName) {
+		tokens.add(fontName);
+		tokens.add(new COSFloat(12));
+		tokens.add(Operator.getOperator(Operators.TF));
+	}
+
+	private static void addRenderingMode(List<Object> tokens, RenderingMode renderingMode) {
+		tokens.add(COSInteger.get(renderingMode.intValue()));
+		tokens.add(Operator.getOperator(Operators.TR));
+	}
+
+	private static void addShow(List<Object> tokens, String text) {
+		tokens.add(new COSString(text));
+		tokens.add(Operator.getOperator(Operators.TJ_SHOW));
+	}
+}
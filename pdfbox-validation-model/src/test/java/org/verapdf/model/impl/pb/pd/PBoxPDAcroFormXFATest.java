@@ -0,0 +1,129 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class PBoxPDAcroFormXFATest {
+
+	private static final String CONFIG = "<config><acrobat><acrobat7><dynamicRender>%s</dynamicRender>"
+			+ "</acrobat7></acrobat></config>";
+
+	@Test
+	public void testDynamicRenderPresent() throws IOException {
+		Assert.assertEquals("required", getDynamicRender(String.format(CONFIG, "required")));
+	}
+
+	@Test
+	public void testDynamicRenderInsideXDP() throws IOException {
+		String xfa = "<xdp:xdp xmlns:xdp=\"http://ns.adobe.com/xdp/\"><template/>"
+				+ String.format(CONFIG, "forbidden") + "</xdp:xdp>";
+		Assert.assertEquals("forbidden", getDynamicRender(xfa));
+	}
+
+	@Test
+	public void testDynamicRenderInConfigPacket() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			COSArray packets = new COSArray();
+			packets.add(new COSString("template"));
+			packets.add(new COSObject(stream("<template/>")));
+			packets.add(new COSString("config"));
+			packets.add(new COSObject(stream(String.format(CONFIG, "required"))));
+			Assert.assertEquals("required", getDynamicRender(document, packets));
+		}
+	}
+
+	@Test
+	public void testDynamicRenderAbsent() throws IOException {
+		Assert.assertNull(getDynamicRender("<config><acrobat><acrobat7/></acrobat></config>"));
+		Assert.assertNull(getDynamicRender("<template><acrobat><acrobat7><dynamicRender>required"
+				+ "</dynamicRender></acrobat7></acrobat></template>"));
+	}
+
+	@Test
+	public void testNoXFA() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			PBoxPDAcroForm form = new PBoxPDAcroForm(new PDAcroForm(document), document, null);
+			Assert.assertFalse(form.getcontainsXFA().booleanValue());
+			Assert.assertNull(form.getdynamicRender());
+		}
+	}
+
+	@Test
+	public void testMalformedXFA() throws IOException {
+		Assert.assertNull(getDynamicRender("<config><acrobat><acrobat7><dynamicRender>required"));
+		Assert.assertNull(getDynamicRender("<config><acrobat></config>"));
+		Assert.assertNull(getDynamicRender("not xml"));
+	}
+
+	@Test
+	public void testExternalEntityIsNotResolved() throws IOException {
+		File secret = File.createTempFile("xfa", ".txt");
+		try {
+			try (OutputStream out = new FileOutputStream(secret)) {
+				out.write("required".getBytes(StandardCharsets.US_ASCII));
+			}
+			String xfa = "<?xml version=\"1.0\"?><!DOCTYPE config [<!ENTITY secret SYSTEM \""
+					+ secret.toURI() + "\">]>" + String.format(CONFIG, "&secret;");
+			Assert.assertNull(getDynamicRender(xfa));
+		} finally {
+			Assert.assertTrue(secret.delete());
+		}
+	}
+
+	private static String getDynamicRender(String xfa) throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			return getDynamicRender(document, stream(xfa));
+		}
+	}
+
+	private static String getDynamicRender(PDDocument document, COSBase xfa) {
+		COSDictionary dictionary = new COSDictionary();
+		dictionary.setItem(COSName.XFA, xfa);
+		PBoxPDAcroForm form = new PBoxPDAcroForm(new PDAcroForm(document, dictionary), document, null);
+		Assert.assertTrue(form.getcontainsXFA().booleanValue());
+		return form.getdynamicRender();
+	}
+
+	private static COSStream stream(String content) throws IOException {
+		COSStream stream = new COSStream(new COSDictionary());
+		try (OutputStream out = stream.createUnfilteredStream()) {
+			out.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		return stream;
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDType3Font;
+import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.ContentStreamCache;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.model.impl.pb.pd.font.PBoxPDType3Font;
+import org.verapdf.model.impl.pb.pd.pattern.PBoxPDTilingPattern;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Type3 glyph procedures and tiling patterns are parsed once for all their
+ * model objects with the same resources.
+ */
+public class PBoxPDContentStreamCacheTest {
+
+	private static final String BASE_FOLDER = "model/impl/pb/pd/";
+
+	@Test
+	public void testType3CharProcsAreShared() throws IOException {
+		try (PDDocument document = load("Fonts.pdf")) {
+			ValidationContext context = ValidationContext.open(document);
+			try {
+				PDResources pageResources = document.getPage(0).getResources();
+				PDType3Font font = (PDType3Font) pageResources.getFont(COSName.getPDFName("T3_0"));
+				PDInheritableResources resources = PDInheritableResources.getInstance(pageResources)
+						.getExtendedResources(font.getResources());
+
+				List<? extends Object> first = getCharProcs(font, resources, document);
+				ContentStreamCache cache = context.getContentStreamCache();
+				Assert.assertEquals(2, first.size());
+				Assert.assertEquals(0, cache.getHits());
+				Assert.assertEquals(2, cache.size());
+
+				List<? extends Object> second = getCharProcs(font, resources, document);
+				Assert.assertEquals(2, cache.getHits());
+				Assert.assertEquals(2, cache.size());
+				for (Object charProc : second) {
+					List<? extends Object> operators = charProc.getLinkedObjects(PBoxPDContentStream.OPERATORS);
+					Assert.assertTrue(containsSame(first, operators));
+				}
+			} finally {
+				context.close();
+			}
+		}
+	}
+
+	@Test
+	public void testTilingPatternIsShared() throws IOException {
+		try (PDDocument document = load("ColorSpaces.pdf")) {
+			ValidationContext context = ValidationContext.open(document);
+			try {
+				PDResources pageResources = document.getPage(0).getResources();
+				PDTilingPattern pattern = (PDTilingPattern) pageResources.getPattern(COSName.getPDFName("P0"));
+				PDInheritableResources resources = PDInheritableResources.getInstance(pageResources)
+						.getExtendedResources(pattern.getResources());
+
+				List<? extends Object> first = getPatternOperators(pattern, resources, document);
+				List<? extends Object> second = getPatternOperators(pattern, resources, document);
+
+				ContentStreamCache cache = context.getContentStreamCache();
+				Assert.assertSame(first, second);
+				Assert.assertEquals(1, cache.getHits());
+				Assert.assertEquals(1, cache.size());
+			} finally {
+				context.close();
+			}
+		}
+	}
+
+	private static List<? extends Object> getCharProcs(PDType3Font font, PDInheritableResources resources,
+													  PDDocument document) {
+		PBoxPDType3Font model = new PBoxPDType3Font(font, RenderingMode.FILL, resources, document,
+				PDFAFlavour.PDFA_1_B);
+		List<? extends Object> charProcs = model.getLinkedObjects(PBoxPDType3Font.CHAR_STRINGS);
+		for (Object charProc : charProcs) {
+			charProc.getLinkedObjects(PBoxPDContentStream.OPERATORS);
+		}
+		return charProcs;
+	}
+
+	private static List<? extends Object> getPatternOperators(PDTilingPattern pattern,
+															  PDInheritableResources resources,
+															  PDDocument document) {
+		PBoxPDTilingPattern model = new PBoxPDTilingPattern(pattern, resources, document, PDFAFlavour.PDFA_1_B);
+		List<? extends Object> contentStreams = model.getLinkedObjects(PBoxPDTilingPattern.CONTENT_STREAM);
+		Assert.assertEquals(1, contentStreams.size());
+		return contentStreams.get(0).getLinkedObjects(PBoxPDContentStream.OPERATORS);
+	}
+
+	private static boolean containsSame(List<? extends Object> contentStreams, List<? extends Object> operators) {
+		for (Object contentStream : contentStreams) {
+			if (contentStream.getLinkedObjects(PBoxPDContentStream.OPERATORS) == operators) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static PDDocument load(String name) throws IOException {
+		return PDDocument.load(PBoxPDContentStreamCacheTest.class.getClassLoader()
+				.getResourceAsStream(BASE_FOLDER + name), false, true);
+	}
+}
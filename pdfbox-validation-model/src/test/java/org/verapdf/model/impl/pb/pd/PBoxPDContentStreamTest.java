@@ -20,13 +20,17 @@
  */
 package org.verapdf.model.impl.pb.pd;
 
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.factory.operator.OperatorStream;
 import org.verapdf.model.impl.BaseTest;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
+import org.verapdf.model.operator.Operator;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 
 import java.io.IOException;
@@ -62,4 +66,28 @@ public class PBoxPDContentStreamTest extends BaseTest {
 		}
 	}
 
+	@Test
+	public void testStreamedOperatorsMatchLink() throws IOException {
+		List<? extends Object> operators = actual.getLinkedObjects(OPERATORS);
+		OperatorStream stream = streamOperators();
+		int index = 0;
+		for (Operator operator : stream) {
+			Assert.assertEquals(operators.get(index++).getObjectType(), operator.getObjectType());
+		}
+		Assert.assertEquals(operators.size(), index);
+		Assert.assertFalse(stream.isFailed());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testStreamedOperatorsTraversedOnce() throws IOException {
+		OperatorStream stream = streamOperators();
+		stream.iterator();
+		stream.iterator();
+	}
+
+	private static OperatorStream streamOperators() throws IOException {
+		PDPage page = document.getPage(0);
+		return new OperatorFactory().operatorsFromParser(new PDFStreamParser(page.getContentStream(), true),
+				PDInheritableResources.getInstance(page.getResources()), document, null);
+	}
 }
@@ -0,0 +1,115 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+public class PBoxPDDocumentPageWindowTest {
+
+	private static final int PAGES = 3;
+
+	private PDDocument document;
+	private ValidationContext context;
+
+	@Before
+	public void setUp() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (PDDocument source = new PDDocument()) {
+			for (int i = 0; i < PAGES; ++i) {
+				PDPage page = new PDPage();
+				source.addPage(page);
+				try (PDPageContentStream content = new PDPageContentStream(source, page)) {
+					content.moveTo(0, 0);
+					content.lineTo(i + 1, i + 1);
+					content.stroke();
+				}
+			}
+			source.save(out);
+		}
+		this.document = PDDocument.load(new ByteArrayInputStream(out.toByteArray()), false, true);
+		this.context = ValidationContext.open(this.document);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		this.context.close();
+		this.document.close();
+	}
+
+	@Test
+	public void testContentOutsideWindowIsReleased() {
+		this.context.setPageWindowSize(1);
+		List<? extends Object> pages = new PBoxPDDocument(this.document, null).getLinkedObjects(PBoxPDDocument.PAGES);
+		Assert.assertEquals(PAGES, pages.size());
+
+		Object firstContent = getContentStream(pages.get(0));
+		Assert.assertSame(firstContent, getContentStream(pages.get(0)));
+
+		// parsing the second page pushes the first one out of the window
+		getContentStream(pages.get(1));
+		Object reparsedContent = getContentStream(pages.get(0));
+		Assert.assertNotSame(firstContent, reparsedContent);
+		Assert.assertEquals(firstContent.getObjectType(), reparsedContent.getObjectType());
+	}
+
+	@Test
+	public void testContentIsKeptWithoutWindow() {
+		List<? extends Object> pages = new PBoxPDDocument(this.document, null).getLinkedObjects(PBoxPDDocument.PAGES);
+
+		Object firstContent = getContentStream(pages.get(0));
+		for (int i = 1; i < PAGES; ++i) {
+			getContentStream(pages.get(i));
+		}
+		Assert.assertSame(firstContent, getContentStream(pages.get(0)));
+	}
+
+	@Test
+	public void testPagesAreCreatedOnDemandOnce() {
+		List<? extends Object> pages = new PBoxPDDocument(this.document, null).getLinkedObjects(PBoxPDDocument.PAGES);
+
+		Object last = pages.get(PAGES - 1);
+		Assert.assertEquals(PBoxPDPage.PAGE_TYPE, last.getObjectType());
+		Assert.assertEquals(PAGES - 1, ((PBoxPDPage) last).getpageNumber().longValue());
+		for (int i = 0; i < PAGES - 1; ++i) {
+			pages.get(i);
+		}
+		Assert.assertSame(last, pages.get(PAGES - 1));
+	}
+
+	private static Object getContentStream(Object page) {
+		List<? extends Object> contentStreams = page.getLinkedObjects(PBoxPDPage.CONTENT_STREAM);
+		Assert.assertEquals(1, contentStreams.size());
+		return contentStreams.get(0);
+	}
+}
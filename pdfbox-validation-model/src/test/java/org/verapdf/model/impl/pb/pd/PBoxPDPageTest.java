@@ -75,6 +75,13 @@ public class PBoxPDPageTest extends BaseTest {
 		}
 	}
 
+	@Test
+	public void testPageNumber() {
+		Assert.assertEquals(Long.valueOf(0), ((PDPage) actual).getpageNumber());
+		Assert.assertEquals(Long.valueOf(0),
+				new PBoxPDPage(document.getPage(0), 0, document, null).getpageNumber());
+	}
+
 	@Test
 	public void testContentStreamLink() {
 		List<? extends Object> streams = ((PDPage) actual).getLinkedObjects(PBoxPDPage.CONTENT_STREAM);
@@ -0,0 +1,164 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.pd.pboxse.PBoxSEGeneral;
+import org.verapdf.model.pdlayer.PDStructElem;
+import org.verapdf.model.tools.TaggedPDFRoleMapHelper;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PBoxPDStructElemLangTest {
+
+	private COSDictionary treeRoot;
+	private COSDictionary root;
+	private TaggedPDFRoleMapHelper roleMapHelper;
+
+	@Before
+	public void setUp() {
+		this.roleMapHelper = new TaggedPDFRoleMapHelper(Collections.singletonMap("MySect", "Sect"),
+				PDFAFlavour.PDFA_2_B);
+		this.treeRoot = new COSDictionary();
+		this.treeRoot.setItem(COSName.TYPE, COSName.STRUCT_TREE_ROOT);
+		this.treeRoot.setItem(COSName.LANG, new COSString("fr"));
+
+		this.root = createStructElem("Div", "en", this.treeRoot);
+		COSDictionary section = createStructElem("MySect", null, this.root);
+		COSDictionary paragraph = createStructElem("P", "de", section);
+		COSDictionary span = createStructElem("Span", null, paragraph);
+		COSDictionary unknown = createStructElem("Unknown", null, span);
+		// referenced from paragraph, but its P entry points to root
+		COSDictionary misplaced = createStructElem("Span", null, this.root);
+		addKid(this.treeRoot, this.root);
+		addKid(this.root, section);
+		addKid(section, paragraph);
+		addKid(paragraph, span);
+		addKid(paragraph, misplaced);
+		addKid(span, unknown);
+	}
+
+	@Test
+	public void testInheritedLangTopDown() {
+		List<PBoxPDStructElem> elements = collectElements();
+		for (PBoxPDStructElem element : elements) {
+			assertSameAsBaseline(element);
+		}
+	}
+
+	@Test
+	public void testInheritedLangDeepestFirst() {
+		List<PBoxPDStructElem> elements = collectElements();
+		for (int i = elements.size() - 1; i >= 0; --i) {
+			assertSameAsBaseline(elements.get(i));
+		}
+	}
+
+	@Test
+	public void testInheritedLangValues() {
+		List<PBoxPDStructElem> elements = collectElements();
+		Assert.assertEquals(6, elements.size());
+		Assert.assertNull(elements.get(0).getparentLang());
+		Assert.assertEquals("en", elements.get(1).getparentLang());
+		Assert.assertEquals("en", elements.get(2).getparentLang());
+		Assert.assertEquals("de", elements.get(3).getparentLang());
+		Assert.assertEquals("de", elements.get(4).getparentLang());
+		Assert.assertEquals("en", elements.get(5).getparentLang());
+		Assert.assertEquals("Sect", elements.get(2).getparentStandardType());
+	}
+
+	private void assertSameAsBaseline(PBoxPDStructElem element) {
+		COSDictionary dictionary = element.getStructElemDictionary();
+		Assert.assertEquals(baselineParentLang(dictionary), element.getparentLang());
+		Assert.assertEquals(baselineParentStandardType(dictionary), element.getparentStandardType());
+	}
+
+	private List<PBoxPDStructElem> collectElements() {
+		List<PBoxPDStructElem> elements = new ArrayList<>();
+		collect(PBoxSEGeneral.createTypedStructElem(this.root, this.roleMapHelper, null), elements);
+		return elements;
+	}
+
+	private static void collect(PBoxPDStructElem element, List<PBoxPDStructElem> elements) {
+		elements.add(element);
+		for (PDStructElem child : element.getChildren()) {
+			collect((PBoxPDStructElem) child, elements);
+		}
+	}
+
+	/**
+	 * Lookup by walking P entries, as it was done before parent values were
+	 * propagated through the structure tree
+	 */
+	private static String baselineParentLang(COSDictionary structElem) {
+		COSBase parent = structElem.getDictionaryObject(COSName.P);
+		while (parent instanceof COSDictionary
+				&& !COSName.STRUCT_TREE_ROOT.equals(((COSDictionary) parent).getCOSName(COSName.TYPE))) {
+			COSBase lang = ((COSDictionary) parent).getDictionaryObject(COSName.LANG);
+			if (lang instanceof COSString) {
+				return ((COSString) lang).getString();
+			}
+			parent = ((COSDictionary) parent).getDictionaryObject(COSName.P);
+		}
+		return null;
+	}
+
+	private String baselineParentStandardType(COSDictionary structElem) {
+		COSBase parent = structElem.getDictionaryObject(COSName.P);
+		if (parent instanceof COSDictionary) {
+			COSBase type = ((COSDictionary) parent).getDictionaryObject(COSName.S);
+			if (type instanceof COSName) {
+				return this.roleMapHelper.getStandardType(((COSName) type).getName());
+			}
+		}
+		return null;
+	}
+
+	private static COSDictionary createStructElem(String type, String lang, COSDictionary parent) {
+		COSDictionary structElem = new COSDictionary();
+		structElem.setItem(COSName.TYPE, COSName.getPDFName("StructElem"));
+		structElem.setItem(COSName.S, COSName.getPDFName(type));
+		structElem.setItem(COSName.P, parent);
+		if (lang != null) {
+			structElem.setItem(COSName.LANG, new COSString(lang));
+		}
+		return structElem;
+	}
+
+	private static void addKid(COSDictionary parent, COSDictionary kid) {
+		COSBase kids = parent.getDictionaryObject(COSName.K);
+		if (!(kids instanceof COSArray)) {
+			kids = new COSArray();
+			parent.setItem(COSName.K, kids);
+		}
+		((COSArray) kids).add(kid);
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd.colors;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDSeparation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+
+import java.io.IOException;
+
+public class PBoxPDSeparationConsistencyTest {
+
+	private static final String COLORANT = "Spot";
+
+	private PDDocument document;
+	private ValidationContext context;
+
+	@Before
+	public void open() {
+		this.document = new PDDocument();
+		this.context = ValidationContext.open(this.document);
+	}
+
+	@After
+	public void close() throws IOException {
+		this.context.close();
+		this.document.close();
+	}
+
+	@Test
+	public void testSameAlternateAndTintTransformAreConsistent() throws IOException {
+		PBoxPDSeparation first = separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		PBoxPDSeparation second = separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		Assert.assertTrue(first.getareTintAndAlternateConsistent().booleanValue());
+		Assert.assertTrue(second.getareTintAndAlternateConsistent().booleanValue());
+	}
+
+	@Test
+	public void testDifferentAlternateIsInconsistent() throws IOException {
+		PBoxPDSeparation first = separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		PBoxPDSeparation second = separation(COLORANT, COSName.DEVICERGB, tintTransform(1f));
+		Assert.assertFalse(first.getareTintAndAlternateConsistent().booleanValue());
+		Assert.assertFalse(second.getareTintAndAlternateConsistent().booleanValue());
+	}
+
+	@Test
+	public void testDifferentTintTransformIsInconsistent() throws IOException {
+		PBoxPDSeparation first = separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		PBoxPDSeparation second = separation(COLORANT, COSName.DEVICECMYK, tintTransform(0.5f));
+		Assert.assertFalse(first.getareTintAndAlternateConsistent().booleanValue());
+		Assert.assertFalse(second.getareTintAndAlternateConsistent().booleanValue());
+	}
+
+	@Test
+	public void testSameIndirectTintTransformIsConsistent() throws IOException {
+		COSObject function = new COSObject(tintTransform(1f));
+		function.setObjectNumber(10);
+		function.setGenerationNumber(0);
+		PBoxPDSeparation first = separation(COLORANT, COSName.DEVICECMYK, function);
+		PBoxPDSeparation second = separation(COLORANT, COSName.DEVICECMYK, function);
+		Assert.assertTrue(first.getareTintAndAlternateConsistent().booleanValue());
+		Assert.assertTrue(second.getareTintAndAlternateConsistent().booleanValue());
+	}
+
+	@Test
+	public void testOtherColorantIsNotAffected() throws IOException {
+		separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		separation(COLORANT, COSName.DEVICERGB, tintTransform(1f));
+		PBoxPDSeparation other = separation("Other", COSName.DEVICEGRAY, tintTransform(1f));
+		Assert.assertTrue(other.getareTintAndAlternateConsistent().booleanValue());
+	}
+
+	@Test
+	public void testDocumentsAreIndependent() throws IOException {
+		separation(COLORANT, COSName.DEVICECMYK, tintTransform(1f));
+		try (PDDocument other = new PDDocument()) {
+			ValidationContext otherContext = ValidationContext.open(other);
+			try {
+				PBoxPDSeparation separation = new PBoxPDSeparation(new PDSeparation(
+						array(COLORANT, COSName.DEVICERGB, tintTransform(1f))), other, null);
+				Assert.assertTrue(separation.getareTintAndAlternateConsistent().booleanValue());
+			} finally {
+				otherContext.close();
+			}
+		}
+	}
+
+	private PBoxPDSeparation separation(String colorant, COSName alternate, COSBase tintTransform)
+			throws IOException {
+		return new PBoxPDSeparation(new PDSeparation(array(colorant, alternate, tintTransform)),
+				this.document, null);
+	}
+
+	private static COSArray array(String colorant, COSName alternate, COSBase tintTransform) {
+		COSArray array = new COSArray();
+		array.add(COSName.SEPARATION);
+		array.add(COSName.getPDFName(colorant));
+		array.add(alternate);
+		array.add(tintTransform);
+		return array;
+	}
+
+	private static COSDictionary tintTransform(float maximum) {
+		COSDictionary function = new COSDictionary();
+		function.setInt(COSName.FUNCTION_TYPE, 2);
+		function.setItem(COSName.DOMAIN, range(0f, 1f));
+		function.setItem(COSName.C0, range(0f, 0f, 0f, 0f));
+		function.setItem(COSName.C1, range(maximum, maximum, maximum, maximum));
+		function.setItem(COSName.N, COSInteger.ONE);
+		return function;
+	}
+
+	private static COSArray range(float... values) {
+		COSArray array = new COSArray();
+		for (float value : values) {
+			array.add(new COSFloat(value));
+		}
+		return array;
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd.font;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDCIDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Font C0_0 of the test file has glyphs for CIDs 1, 36, 37, 38, 42, 67, 69,
+ * 70, 71, 78, 79, 80 and 85 and its CIDSet lists exactly these CIDs.
+ */
+public class PBoxPDCIDFontCIDSetTest {
+
+	private static final String FILE_PATH = "model/impl/pb/pd/Fonts.pdf";
+	private static final COSName FONT_NAME = COSName.getPDFName("C0_0");
+
+	private static final int[] FONT_GLYPHS = {1, 36, 37, 38, 42, 67, 69, 70, 71, 78, 79, 80, 85};
+	private static final int MISSING_GLYPH = 2;
+
+	private PDDocument document;
+	private ValidationContext context;
+	private PDCIDFont cidFont;
+
+	@Before
+	public void setUp() throws IOException {
+		this.document = PDDocument.load(PBoxPDCIDFontCIDSetTest.class.getClassLoader()
+				.getResourceAsStream(FILE_PATH), false, true);
+		this.context = ValidationContext.open(this.document);
+		PDType0Font font = (PDType0Font) this.document.getPage(0).getResources().getFont(FONT_NAME);
+		this.cidFont = font.getDescendantFont();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		this.context.close();
+		this.document.close();
+	}
+
+	@Test
+	public void testCompleteCIDSet() {
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_1_B));
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+	}
+
+	@Test
+	public void testIncompleteCIDSet() throws IOException {
+		setCIDSet(withoutFirst(FONT_GLYPHS));
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_1_B));
+		Assert.assertFalse(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+	}
+
+	@Test
+	public void testIncompleteCIDSetInReverseFlavourOrder() throws IOException {
+		setCIDSet(withoutFirst(FONT_GLYPHS));
+		Assert.assertFalse(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_1_B));
+	}
+
+	@Test
+	public void testOverCompleteCIDSet() throws IOException {
+		int[] cids = new int[FONT_GLYPHS.length + 1];
+		System.arraycopy(FONT_GLYPHS, 0, cids, 0, FONT_GLYPHS.length);
+		cids[FONT_GLYPHS.length] = MISSING_GLYPH;
+		setCIDSet(cids);
+		Assert.assertFalse(listsAllGlyphs(PDFAFlavour.PDFA_1_B));
+		Assert.assertFalse(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+	}
+
+	@Test
+	public void testResultIsSharedBetweenModelObjects() throws IOException {
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+		// cached result of the font is used by next model objects
+		setCIDSet(withoutFirst(FONT_GLYPHS));
+		Assert.assertTrue(listsAllGlyphs(PDFAFlavour.PDFA_2_B));
+	}
+
+	private boolean listsAllGlyphs(PDFAFlavour flavour) {
+		PBoxPDCIDFont font = new PBoxPDCIDFont(this.cidFont, RenderingMode.FILL, this.document, flavour);
+		return font.getcidSetListsAllGlyphs().booleanValue();
+	}
+
+	private void setCIDSet(int... cids) throws IOException {
+		byte[] bytes = new byte[11];
+		for (int cid : cids) {
+			bytes[cid / 8] |= 0x80 >> (cid % 8);
+		}
+		COSStream stream = new COSStream(new COSDictionary());
+		try (OutputStream out = stream.createUnfilteredStream()) {
+			out.write(bytes);
+		}
+		stream.setInt(COSName.LENGTH, bytes.length);
+		this.cidFont.getFontDescriptor().getCOSObject().setItem(COSName.CID_SET, stream);
+	}
+
+	private static int[] withoutFirst(int[] cids) {
+		int[] result = new int[cids.length - 1];
+		System.arraycopy(cids, 1, result, 0, result.length);
+		return result;
+	}
+}
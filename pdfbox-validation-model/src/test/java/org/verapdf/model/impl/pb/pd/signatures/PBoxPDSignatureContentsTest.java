@@ -0,0 +1,93 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.pd.signatures;
+
+import org.apache.pdfbox.cos.*;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PBoxPDSignatureContentsTest {
+
+	private static final byte[][] CONTENTS = {
+			{ 0x30, 0x01, 0x01 },
+			{ 0x30, 0x02, 0x02, 0x02 },
+			{ 0x30, 0x03, 0x03, 0x03, 0x03 }
+	};
+
+	@Test
+	public void signaturesKeepOwnContentsTest() throws IOException {
+		try (PDDocument document = PDDocument.load(new ByteArrayInputStream(createSignedDocument()), false, true)) {
+			List<PDSignatureField> fields = document.getSignatureFields();
+			assertEquals(CONTENTS.length, fields.size());
+
+			List<PBoxPDSignature> signatures = new ArrayList<>();
+			for (PDSignatureField field : fields) {
+				COSObject reference = (COSObject) field.getCOSObject().getItem(COSName.V);
+				signatures.add(new PBoxPDSignature(field.getSignature(), document, reference));
+			}
+			// every signature is checked after all of them are created
+			for (int i = 0; i < CONTENTS.length; ++i) {
+				assertArrayEquals(CONTENTS[i], signatures.get(i).contents);
+			}
+		}
+	}
+
+	private static byte[] createSignedDocument() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			document.addPage(new PDPage());
+			COSArray fields = new COSArray();
+			for (int i = 0; i < CONTENTS.length; ++i) {
+				COSDictionary signature = new COSDictionary();
+				signature.setItem(COSName.TYPE, COSName.SIG);
+				signature.setItem(COSName.CONTENTS, new COSString(CONTENTS[i]));
+				COSArray byteRange = new COSArray();
+				for (int j = 0; j < 4; ++j) {
+					byteRange.add(COSInteger.ZERO);
+				}
+				signature.setItem(COSName.BYTERANGE, byteRange);
+
+				COSDictionary field = new COSDictionary();
+				field.setItem(COSName.FT, COSName.SIG);
+				field.setString(COSName.T, "Signature" + i);
+				field.setItem(COSName.V, signature);
+				fields.add(field);
+			}
+			COSDictionary acroForm = new COSDictionary();
+			acroForm.setItem(COSName.FIELDS, fields);
+			document.getDocumentCatalog().getCOSObject().setItem(COSName.ACRO_FORM, acroForm);
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			document.save(out);
+			return out.toByteArray();
+		}
+	}
+}
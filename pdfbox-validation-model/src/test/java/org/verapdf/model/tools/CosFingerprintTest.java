@@ -0,0 +1,75 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CosFingerprintTest {
+
+	@Test
+	public void testDirectObjectsWithSameContent() {
+		CosFingerprint fingerprint = new CosFingerprint();
+
+		Assert.assertEquals(fingerprint.of(array(COSName.DEVICERGB, COSInteger.ONE)),
+				fingerprint.of(array(COSName.DEVICERGB, COSInteger.ONE)));
+		Assert.assertNotEquals(fingerprint.of(array(COSName.DEVICERGB, COSInteger.ONE)),
+				fingerprint.of(array(COSName.DEVICERGB, COSInteger.TWO)));
+	}
+
+	@Test
+	public void testTooDeepObjectsAreEqualOnlyToThemselves() {
+		CosFingerprint fingerprint = new CosFingerprint();
+		COSArray first = nested(40);
+		COSArray second = nested(40);
+
+		Assert.assertEquals(fingerprint.of(first), fingerprint.of(first));
+		Assert.assertNotEquals(fingerprint.of(first), fingerprint.of(second));
+	}
+
+	@Test
+	public void testTokensAreNotReusedAfterClear() {
+		CosFingerprint fingerprint = new CosFingerprint();
+		String before = fingerprint.of(nested(40));
+		fingerprint.clear();
+
+		Assert.assertNotEquals(before, fingerprint.of(nested(40)));
+	}
+
+	private static COSArray array(Object... elements) {
+		COSArray array = new COSArray();
+		for (Object element : elements) {
+			array.add((org.apache.pdfbox.cos.COSBase) element);
+		}
+		return array;
+	}
+
+	private static COSArray nested(int depth) {
+		COSArray array = array(COSInteger.ZERO);
+		for (int i = 0; i < depth; ++i) {
+			array = array(array);
+		}
+		return array;
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.ValidationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+public class FileSpecificationKeysHelperTest {
+
+	@Test
+	public void testKeysDoNotLeakBetweenDocuments() throws IOException {
+		try (PDDocument withAF = load(true);
+			 PDDocument withoutAF = load(false);
+			 ValidationContext withAFContext = ValidationContext.open(withAF);
+			 ValidationContext withoutAFContext = ValidationContext.open(withoutAF)) {
+			Set<COSObjectKey> keys = FileSpecificationKeysHelper.getFileSpecificationKeys(withAF);
+			Assert.assertEquals(1, keys.size());
+
+			// keys collected for the first document are not reported for the second one
+			Assert.assertTrue(FileSpecificationKeysHelper.getFileSpecificationKeys(withoutAF).isEmpty());
+			Assert.assertEquals(keys, FileSpecificationKeysHelper.getFileSpecificationKeys(withAF));
+		}
+	}
+
+	@Test
+	public void testKeysAreCollectedOncePerDocument() throws IOException {
+		try (PDDocument document = load(true);
+			 ValidationContext context = ValidationContext.open(document)) {
+			Set<COSObjectKey> keys = FileSpecificationKeysHelper.getFileSpecificationKeys(document);
+			Assert.assertSame(keys, FileSpecificationKeysHelper.getFileSpecificationKeys(document));
+		}
+	}
+
+	@Test
+	public void testNoDocument() {
+		Assert.assertTrue(FileSpecificationKeysHelper.getFileSpecificationKeys(null).isEmpty());
+	}
+
+	private static PDDocument load(boolean withAF) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (PDDocument document = new PDDocument()) {
+			document.addPage(new PDPage());
+			if (withAF) {
+				COSDictionary fileSpecification = new COSDictionary();
+				fileSpecification.setItem(COSName.TYPE, COSName.FILESPEC);
+				fileSpecification.setString(COSName.F, "attachment.txt");
+				COSArray af = new COSArray();
+				af.add(fileSpecification);
+				document.getDocumentCatalog().getCOSObject().setItem(COSName.getPDFName("AF"), af);
+			}
+			document.save(out);
+		}
+		return PDDocument.load(new ByteArrayInputStream(out.toByteArray()), false, true);
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.*;
+
+public class TaggedPDFRoleMapHelperTest {
+
+	private static final PDFAFlavour[] FLAVOURS = {PDFAFlavour.PDFA_1_B, PDFAFlavour.PDFA_2_B, null};
+
+	@Test
+	public void testChainedMapping() {
+		Map<String, String> roleMap = new HashMap<>();
+		roleMap.put("Para", "MyP");
+		roleMap.put("MyP", "Custom");
+		roleMap.put("Custom", "P");
+		roleMap.put("Chapter", "Sect");
+
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap, PDFAFlavour.PDFA_2_B);
+
+		Assert.assertEquals("P", helper.getStandardType("Para"));
+		Assert.assertEquals("P", helper.getStandardType("MyP"));
+		Assert.assertEquals("Sect", helper.getStandardType("Chapter"));
+		Assert.assertFalse(helper.circularMappingExist("Para").booleanValue());
+		assertSameAsBaseline(roleMap);
+	}
+
+	@Test
+	public void testCyclicMapping() {
+		Map<String, String> roleMap = new HashMap<>();
+		roleMap.put("A", "B");
+		roleMap.put("B", "C");
+		roleMap.put("C", "A");
+		roleMap.put("Entry", "A");
+		roleMap.put("Self", "Self");
+
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap, PDFAFlavour.PDFA_2_B);
+
+		Assert.assertNull(helper.getStandardType("A"));
+		Assert.assertNull(helper.getStandardType("Entry"));
+		Assert.assertNull(helper.getStandardType("Self"));
+		Assert.assertTrue(helper.circularMappingExist("A").booleanValue());
+		Assert.assertTrue(helper.circularMappingExist("Entry").booleanValue());
+		Assert.assertTrue(helper.circularMappingExist("Self").booleanValue());
+		assertSameAsBaseline(roleMap);
+	}
+
+	@Test
+	public void testRemappedStandardTypes() {
+		Map<String, String> roleMap = new HashMap<>();
+		roleMap.put("P", "Span");
+		roleMap.put("Span", "Custom");
+		roleMap.put("Custom", "Span");
+		roleMap.put("Div", "Div");
+		roleMap.put("THead", "TR");
+		roleMap.put("Note", "Annot");
+
+		assertSameAsBaseline(roleMap);
+	}
+
+	@Test
+	public void testMappingToPDF17Types() {
+		Map<String, String> roleMap = new HashMap<>();
+		roleMap.put("Header", "THead");
+		roleMap.put("Ruby", "Span");
+		roleMap.put("Glyphs", "RB");
+
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap, PDFAFlavour.PDFA_1_B);
+
+		// PDF/A-1 uses standard types of PDF 1.4
+		Assert.assertNull(helper.getStandardType("Header"));
+		Assert.assertEquals("THead", new TaggedPDFRoleMapHelper(roleMap, PDFAFlavour.PDFA_2_B).getStandardType("Header"));
+		assertSameAsBaseline(roleMap);
+	}
+
+	@Test
+	public void testNoRoleMap() {
+		TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(null, PDFAFlavour.PDFA_2_B);
+
+		Assert.assertEquals("P", helper.getStandardType("P"));
+		Assert.assertNull(helper.getStandardType("Custom"));
+		Assert.assertNull(helper.getStandardType(null));
+		Assert.assertNull(helper.circularMappingExist(null));
+		Assert.assertFalse(helper.isRemappedStandardType(null).booleanValue());
+	}
+
+	private static void assertSameAsBaseline(Map<String, String> roleMap) {
+		Set<String> types = new HashSet<>(roleMap.keySet());
+		types.addAll(roleMap.values());
+		types.addAll(Arrays.asList("P", "Span", "Div", "THead", "Annot", "Unknown"));
+		for (PDFAFlavour flavour : FLAVOURS) {
+			TaggedPDFRoleMapHelper helper = new TaggedPDFRoleMapHelper(roleMap, flavour);
+			for (String type : types) {
+				String message = type + " in " + flavour;
+				Assert.assertEquals(message, baselineStandardType(roleMap, flavour, type), helper.getStandardType(type));
+				Assert.assertEquals(message, Boolean.valueOf(baselineCircularMapping(roleMap, type)),
+						helper.circularMappingExist(type));
+				Assert.assertEquals(message, Boolean.valueOf(standardTypes(flavour).contains(type) && roleMap.get(type) != null),
+						helper.isRemappedStandardType(type));
+			}
+		}
+	}
+
+	/**
+	 * Lookup by following role map chain, as it was done before mappings
+	 * were resolved in advance
+	 */
+	private static String baselineStandardType(Map<String, String> roleMap, PDFAFlavour flavour, String type) {
+		Set<String> standardTypes = standardTypes(flavour);
+		boolean isFastStop = isPDFA1(flavour);
+		Set<String> visitedTypes = new HashSet<>();
+		visitedTypes.add(type);
+		String res = roleMap.get(type);
+		if ((isFastStop || res == null || visitedTypes.contains(res)) && standardTypes.contains(type)) {
+			return type;
+		}
+		while (res != null && !visitedTypes.contains(res)) {
+			if (standardTypes.contains(res)) {
+				return res;
+			}
+			visitedTypes.add(res);
+			res = roleMap.get(res);
+		}
+		return null;
+	}
+
+	private static boolean baselineCircularMapping(Map<String, String> roleMap, String type) {
+		Set<String> visitedTypes = new HashSet<>();
+		visitedTypes.add(type);
+		String res = roleMap.get(type);
+		while (res != null) {
+			if (visitedTypes.contains(res)) {
+				return true;
+			}
+			visitedTypes.add(res);
+			res = roleMap.get(res);
+		}
+		return false;
+	}
+
+	private static Set<String> standardTypes(PDFAFlavour flavour) {
+		Set<String> types = new HashSet<>(Arrays.asList("Document", "Part", "Art", "Sect", "Div", "BlockQuote",
+				"Caption", "TOC", "TOCI", "Index", "NonStruct", "Private", "H", "H1", "H2", "H3", "H4", "H5", "H6",
+				"P", "L", "LI", "Lbl", "LBody", "Table", "TR", "TH", "TD", "Span", "Quote", "Note", "Reference",
+				"BibEntry", "Code", "Link", "Figure", "Formula", "Form"));
+		if (!isPDFA1(flavour)) {
+			types.addAll(Arrays.asList("THead", "TBody", "TFoot", "Annot", "Ruby", "Warichu",
+					"RB", "RT", "RP", "WT", "WP"));
+		}
+		return types;
+	}
+
+	private static boolean isPDFA1(PDFAFlavour flavour) {
+		return flavour != null && flavour.getPart() == PDFAFlavour.Specification.ISO_19005_1;
+	}
+}